@@ -0,0 +1,39 @@
+package bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * 벤치마크 실행 진입점.
+ * JMH 명령행 옵션을 그대로 받으며(예: "PathManager" 로 대상 선택, -p shape=HEXAGON),
+ * 결과 파일 형식을 따로 지정하지 않으면 bench/results/jmh-result.json 에 JSON으로 저장한다.
+ * 회귀 추적은 이 JSON 파일을 실행마다 보관하여 비교한다.
+ */
+public final class BenchmarkMain {
+    static final String DEFAULT_RESULT = "bench/results/jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cmd);
+
+        if (!cmd.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmd.getResult().hasValue()) {
+            File result = new File(DEFAULT_RESULT);
+            result.getAbsoluteFile().getParentFile().mkdirs();
+            options.result(result.getPath());
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package bench;
+
+import backend.model.Board;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board.placePiece 벤치마크.
+ * 매 호출이 같은 상황(빈 칸 이동 / 업기 / 잡기)이 되도록 두 번의 배치를 한 쌍으로 실행하고,
+ * 결과는 배치 한 번 기준으로 보고한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    private Board board;
+    private Piece mover;
+    private Piece ownStack;
+    private Piece attacker;
+    private Piece victim;
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+        Player p1 = new Player("Player 1", 0, 0);
+        Player p2 = new Player("Player 2", 0, 1);
+
+        mover = new Piece(p1);
+        ownStack = new Piece(p1);
+        attacker = new Piece(p1);
+        victim = new Piece(p2);
+
+        board.placePiece(mover, Position.POS_1);
+        board.placePiece(ownStack, Position.POS_7);
+        board.placePiece(attacker, Position.POS_12);
+        board.placePiece(victim, Position.POS_13);
+    }
+
+    /** 빈 칸 사이를 오감 (잡기 없음) */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public boolean placeWithoutCapture() {
+        boolean captured = board.placePiece(mover, Position.POS_2);
+        return board.placePiece(mover, Position.POS_1) | captured;
+    }
+
+    /** 자기 말이 있는 칸으로 들어갔다 나옴 (업기) */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public boolean placeOntoOwnStack() {
+        boolean captured = board.placePiece(mover, Position.POS_7);
+        return board.placePiece(mover, Position.POS_1) | captured;
+    }
+
+    /** 두 말이 같은 칸에서 서로 번갈아 잡음 (매 배치가 잡기) */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public boolean placeWithCapture() {
+        boolean captured = board.placePiece(attacker, Position.POS_13);
+        return board.placePiece(victim, Position.POS_13) & captured;
+    }
+}
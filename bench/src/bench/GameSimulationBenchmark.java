@@ -0,0 +1,67 @@
+package bench;
+
+import backend.model.BoardShape;
+import backend.sim.GameSimulation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 한 판 전체 시뮬레이션 처리량 (초당 판 수).
+ * 판마다 길이가 다르므로 실행한 행동 수도 보조 지표(actions)로 함께 기록한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameSimulationBenchmark {
+
+    @Param({"TRADITIONAL", "PENTAGON", "HEXAGON"})
+    public BoardShape shape;
+
+    @Param({"2", "4"})
+    public int players;
+
+    @Param({"4"})
+    public int pieces;
+
+    private GameSimulation simulation;
+
+    /** 반복(iteration)마다 누적되는 보조 지표 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        public long actions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            actions = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        simulation = new GameSimulation(shape);
+    }
+
+    @Benchmark
+    public int playFullGame(Counters counters) {
+        int actions = simulation.play(players, pieces);
+        counters.actions += actions;
+        return actions;
+    }
+}
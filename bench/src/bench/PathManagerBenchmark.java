@@ -0,0 +1,92 @@
+package bench;
+
+import backend.model.BoardShape;
+import backend.model.PathManager;
+import backend.model.Piece;
+import backend.model.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PathManager.getNextPositions 벤치마크.
+ * 보드 모양 3종 × 이동 상황(앞으로/빽도, 경로 문맥 유무)별로 한 번의 경로 계산 시간을 잰다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathManagerBenchmark {
+
+    /** 말의 출발 상태와 이동 칸 수 */
+    public enum Scenario {
+        OFFBOARD_FORWARD(Position.OFFBOARD, null, null, 3),
+        OUTER_FORWARD(Position.POS_2, null, null, 2),
+        OUTER_TO_DIAG_ENTRY(Position.POS_3, null, null, 2),
+        OUTER_PAST_END(Position.POS_18, null, null, 5),
+        DIAG_ENTRY_TO_CENTER(Position.POS_5, null, null, 3),
+        DIAG_ENTRY_PAST_CENTER(Position.POS_10, null, null, 5),
+        DIAG_INSIDE_FORWARD(Position.DIA_A1, Position.DIA_A2, null, 2),
+        CENTER_FORWARD_NO_CONTEXT(Position.CENTER, null, null, 2),
+        CENTER_FORWARD_DIAG_CONTEXT(Position.CENTER, Position.DIA_A2, null, 2),
+        CENTER_FORWARD_CENTER_CONTEXT(Position.CENTER, Position.CENTER, null, 2),
+        POS0_FORWARD(Position.POS_0, null, null, 1),
+        BACKDO_OUTER(Position.POS_3, null, null, -1),
+        BACKDO_DIAG(Position.DIA_B1, Position.DIA_B2, null, -1),
+        BACKDO_CENTER_CONTEXT(Position.CENTER, Position.DIA_B2, null, -1),
+        BACKDO_CENTER_FALLBACK(Position.CENTER, null, Position.DIA_A2, -1),
+        BACKDO_CENTER_DEFAULT(Position.CENTER, null, null, -1),
+        BACKDO_POS0_NO_CONTEXT(Position.POS_0, null, null, -1),
+        BACKDO_POS0_CONTEXT(Position.POS_0, Position.DIA_B4, null, -1);
+
+        final Position position;
+        final Position context;
+        final Position lastEntered;
+        final int steps;
+
+        Scenario(Position position, Position context, Position lastEntered, int steps) {
+            this.position = position;
+            this.context = context;
+            this.lastEntered = lastEntered;
+            this.steps = steps;
+        }
+    }
+
+    @Param({"TRADITIONAL", "PENTAGON", "HEXAGON"})
+    public BoardShape shape;
+
+    @Param
+    public Scenario scenario;
+
+    private Piece piece;
+    private int steps;
+
+    @Setup
+    public void setUp() {
+        piece = new Piece(null);
+        piece.moveTo(scenario.position);
+        piece.setPathContextWaypoint(scenario.context);
+        if (scenario.lastEntered != null) {
+            piece.setLastEnteredWaypoint(scenario.lastEntered);
+        }
+        steps = scenario.steps;
+    }
+
+    @Benchmark
+    public List<Position> getNextPositions() {
+        return PathManager.getNextPositions(piece, steps, shape);
+    }
+}
@@ -0,0 +1,295 @@
+package bench;
+
+import backend.model.Board;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+import frontend.JavaFXBoardPanel;
+import frontend.SwingBoardPanel;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Swing/JavaFX 보드 패널 프레임 시간 측정 도구.
+ * 보드 모양 3종 × 말 수(0~64)마다 같은 그리기 코드로 수천 프레임을 오프스크린 렌더링하고,
+ * 프레임 시간 p50/p99와 프레임당 할당량(렌더링 스레드 기준)을 표와 JSON으로 남긴다.
+ *
+ * 매 프레임 말 하나를 자기 편 다른 칸으로 옮긴 뒤 그린다 (잡기가 일어나지 않도록 칸을 플레이어별로 나눔).
+ * Swing은 SwingBoardPanel.paintOffscreen 전체 그리기, JavaFX는 JavaFXBoardPanel.refresh 를 잰다.
+ *
+ * 사용법: RenderBenchmark [swing|javafx|all] [측정 프레임 수] [결과 파일]
+ * 리눅스 CI에서는 -Djava.awt.headless=true 로 실행하면 JavaFX는 Monocle 헤드리스 플랫폼을 사용한다
+ * (openjfx-monocle 이 클래스패스에 있어야 함).
+ */
+public final class RenderBenchmark {
+    static final String DEFAULT_RESULT = "bench/results/render-result.json";
+    private static final int[] PIECE_COUNTS = {0, 8, 16, 32, 64};
+    private static final int PLAYERS = 4;
+    private static final int SIZE = 650;
+
+    private final int warmupFrames;
+    private final int measuredFrames;
+    private final List<Result> results = new ArrayList<>();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private RenderBenchmark(int measuredFrames) {
+        this.measuredFrames = measuredFrames;
+        this.warmupFrames = Math.max(200, measuredFrames / 4);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String toolkit = args.length > 0 ? args[0] : "all";
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+        Path output = Paths.get(args.length > 2 ? args[2] : DEFAULT_RESULT);
+
+        RenderBenchmark benchmark = new RenderBenchmark(frames);
+        if (toolkit.equals("swing") || toolkit.equals("all")) {
+            benchmark.runSwing();
+        }
+        if (toolkit.equals("javafx") || toolkit.equals("all")) {
+            benchmark.runJavaFX();
+        }
+        benchmark.writeJson(output);
+        System.out.println("결과 저장: " + output);
+    }
+
+    /** 한 설정의 측정 결과 */
+    private static final class Result {
+        final String toolkit;
+        final BoardShape shape;
+        final int pieces;
+        final long[] frameNanos;
+        final double allocBytesPerFrame;
+
+        Result(String toolkit, BoardShape shape, int pieces, long[] frameNanos, double allocBytesPerFrame) {
+            this.toolkit = toolkit;
+            this.shape = shape;
+            this.pieces = pieces;
+            this.frameNanos = frameNanos;
+            this.allocBytesPerFrame = allocBytesPerFrame;
+            Arrays.sort(frameNanos);
+        }
+
+        double percentileMicros(double p) {
+            int index = (int) Math.ceil(p * frameNanos.length) - 1;
+            return frameNanos[Math.max(0, Math.min(index, frameNanos.length - 1))] / 1000.0;
+        }
+
+        double meanMicros() {
+            long sum = 0;
+            for (long n : frameNanos) sum += n;
+            return sum / 1000.0 / frameNanos.length;
+        }
+    }
+
+    /** 측정 대상 보드와, 매 프레임 말 하나를 옮기는 순서 */
+    private static final class Scenario {
+        final Board board = new Board();
+        final List<Piece> pieces = new ArrayList<>();
+        final List<List<Position>> ownedPositions = new ArrayList<>();
+        int next;
+
+        Scenario(BoardShape shape, int pieceCount) {
+            List<Position> onBoard = onBoardPositions(shape);
+            for (int k = 0; k < PLAYERS; k++) {
+                ownedPositions.add(new ArrayList<>());
+            }
+            for (int i = 0; i < onBoard.size(); i++) {
+                ownedPositions.get(i % PLAYERS).add(onBoard.get(i));
+            }
+            for (int k = 0; k < PLAYERS; k++) {
+                Player player = new Player("Player " + (k + 1), pieceCount / PLAYERS, k);
+                List<Position> owned = ownedPositions.get(k);
+                for (int m = 0; m < player.getPieces().size(); m++) {
+                    Piece piece = player.getPieces().get(m);
+                    board.placePiece(piece, owned.get(m % owned.size()));
+                    pieces.add(piece);
+                }
+            }
+        }
+
+        /** 말을 하나씩 돌아가며 같은 플레이어 몫의 다음 칸으로 옮김 */
+        void step() {
+            if (pieces.isEmpty()) return;
+            int i = next;
+            next = (next + 1) % pieces.size();
+            Piece piece = pieces.get(i);
+            List<Position> owned = ownedPositions.get(piece.getOwner().getIndex());
+            board.placePiece(piece, owned.get((owned.indexOf(piece.getPosition()) + 1) % owned.size()));
+        }
+    }
+
+    private static List<Position> onBoardPositions(BoardShape shape) {
+        Set<Position> positions = new LinkedHashSet<>(shape.getOuterPath());
+        for (char c : shape.getDiagNames()) {
+            positions.addAll(shape.getDiagPath(c));
+        }
+        positions.remove(Position.END);
+        positions.remove(Position.OFFBOARD);
+        return new ArrayList<>(positions);
+    }
+
+    private void runSwing() {
+        for (BoardShape shape : BoardShape.values()) {
+            for (int count : PIECE_COUNTS) {
+                Scenario scenario = new Scenario(shape, count);
+                SwingBoardPanel panel = new SwingBoardPanel(scenario.board);
+                panel.setBoardShape(shape);
+                BufferedImage target = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+                Runnable frame = () -> {
+                    Graphics2D g2d = target.createGraphics();
+                    try {
+                        panel.paintOffscreen(g2d, SIZE, SIZE);
+                    } finally {
+                        g2d.dispose();
+                    }
+                };
+                record(measure("swing", shape, count, scenario, frame));
+            }
+        }
+    }
+
+    private void runJavaFX() throws Exception {
+        if (Boolean.getBoolean("java.awt.headless")) {
+            // 디스플레이 없는 CI: Monocle 헤드리스 플랫폼 + 소프트웨어 렌더링
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+        Platform.setImplicitExit(false);
+
+        try {
+            for (BoardShape shape : BoardShape.values()) {
+                for (int count : PIECE_COUNTS) {
+                    record(onFxThread(() -> {
+                        Scenario scenario = new Scenario(shape, count);
+                        JavaFXBoardPanel panel = new JavaFXBoardPanel(scenario.board);
+                        Stage stage = new Stage();
+                        stage.setScene(new Scene(panel.getPane(), SIZE, SIZE));
+                        stage.show();
+                        panel.setBoardShape(shape);
+                        return new Object[] {scenario, panel, stage};
+                    }).thenCompose(parts -> measureOnFxThread(shape, count, (Scenario) parts[0],
+                            ((JavaFXBoardPanel) parts[1])::refresh, (Stage) parts[2])).get());
+                }
+            }
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    // 측정 중에도 펄스(실제 캔버스 반영)가 돌도록 프레임마다 FX 이벤트 큐에 다시 올림
+    private CompletableFuture<Result> measureOnFxThread(BoardShape shape, int count, Scenario scenario,
+                                                        Runnable refresh, Stage stage) {
+        CompletableFuture<Result> done = new CompletableFuture<>();
+        long[] frameNanos = new long[measuredFrames];
+        Runnable[] loop = new Runnable[1];
+        int[] frame = {-warmupFrames};
+        long[] allocStart = new long[1];
+        loop[0] = () -> {
+            if (frame[0] == 0) {
+                allocStart[0] = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+            scenario.step();
+            long start = System.nanoTime();
+            refresh.run();
+            long elapsed = System.nanoTime() - start;
+            if (frame[0] >= 0) {
+                frameNanos[frame[0]] = elapsed;
+            }
+            frame[0]++;
+            if (frame[0] < measuredFrames) {
+                Platform.runLater(loop[0]);
+            } else {
+                long alloc = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocStart[0];
+                stage.close();
+                done.complete(new Result("javafx", shape, count, frameNanos, (double) alloc / measuredFrames));
+            }
+        };
+        Platform.runLater(loop[0]);
+        return done;
+    }
+
+    private static <T> CompletableFuture<T> onFxThread(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                future.complete(task.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    // 현재 스레드에서 워밍업 후 프레임마다 시간을 잼 (할당량은 측정 구간 전체의 스레드 할당 / 프레임 수)
+    private Result measure(String toolkit, BoardShape shape, int count, Scenario scenario, Runnable frame) {
+        for (int i = 0; i < warmupFrames; i++) {
+            scenario.step();
+            frame.run();
+        }
+        long[] frameNanos = new long[measuredFrames];
+        long threadId = Thread.currentThread().getId();
+        long allocStart = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredFrames; i++) {
+            scenario.step();
+            long start = System.nanoTime();
+            frame.run();
+            frameNanos[i] = System.nanoTime() - start;
+        }
+        long alloc = threads.getThreadAllocatedBytes(threadId) - allocStart;
+        return new Result(toolkit, shape, count, frameNanos, (double) alloc / measuredFrames);
+    }
+
+    private void record(Result result) {
+        results.add(result);
+        System.err.printf(Locale.ROOT, "%-7s %-11s pieces=%2d  p50=%8.1fus  p99=%8.1fus  mean=%8.1fus  alloc/frame=%9.0fB%n",
+                result.toolkit, result.shape, result.pieces,
+                result.percentileMicros(0.50), result.percentileMicros(0.99), result.meanMicros(),
+                result.allocBytesPerFrame);
+    }
+
+    private void writeJson(Path output) throws IOException {
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                Result r = results.get(i);
+                out.printf(Locale.ROOT,
+                        "  {\"toolkit\": \"%s\", \"shape\": \"%s\", \"pieces\": %d, \"frames\": %d, "
+                                + "\"p50Micros\": %.2f, \"p99Micros\": %.2f, \"meanMicros\": %.2f, "
+                                + "\"allocBytesPerFrame\": %.1f}%s%n",
+                        r.toolkit, r.shape, r.pieces, r.frameNanos.length,
+                        r.percentileMicros(0.50), r.percentileMicros(0.99), r.meanMicros(),
+                        r.allocBytesPerFrame, i < results.size() - 1 ? "," : "");
+            }
+            out.println("]");
+        }
+    }
+}
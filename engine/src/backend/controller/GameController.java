@@ -3,15 +3,24 @@ package backend.controller;
 import backend.game.Game;
 import backend.game.YutThrowResult;
 import backend.game.YutThrower;
+import backend.metrics.GameMetrics;
+import backend.metrics.jfr.CaptureEvent;
+import backend.metrics.jfr.JfrSupport;
+import backend.metrics.jfr.MoveEvent;
+import backend.metrics.jfr.ThrowEvent;
+import backend.metrics.jfr.TurnEvent;
 import backend.model.BoardShape;
 import backend.model.PathManager;
 import backend.model.Piece;
 import backend.model.Player;
 import backend.model.Position;
-import frontend.YutGameUIInterface;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import backend.search.MoveOptions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 public class GameController {
@@ -19,9 +28,11 @@ public class GameController {
     private static class MoveOutcome {
         final boolean pieceActuallyMoved;
         final boolean captured;
-        MoveOutcome(boolean pieceActuallyMoved, boolean captured) {
+        final List<Position> changedPositions; // 이동으로 말 구성이 바뀐 판 위 위치 (출발지, 도착지)
+        MoveOutcome(boolean pieceActuallyMoved, boolean captured, List<Position> changedPositions) {
             this.pieceActuallyMoved = pieceActuallyMoved;
             this.captured = captured;
+            this.changedPositions = changedPositions;
         }
     }
 
@@ -31,10 +42,20 @@ public class GameController {
     private final List<YutThrowResult> currentTurnThrows = new ArrayList<>();
     private int pendingExtraTurns = 0;
     private boolean yutOrMoEffectFromLastThrow = false;
+    private TurnEvent turnEvent; // 현재 턴 기간 JFR 이벤트
+    private int turnThrowCount;
+    private Random throwRandom; // null이면 YutThrower 공용 난수 사용
+    private final MoveGenerator moveGenerator;
 
     public GameController(YutGameUIInterface ui, BoardShape shape) {
         this.ui = ui;
         this.selectedBoardShape = shape; 
+        this.moveGenerator = new MoveGenerator(shape);
+    }
+
+    /** 무작위 던지기에 쓸 난수 생성기 지정 (같은 시드면 같은 결과가 나오는 시뮬레이션용) */
+    public void setThrowRandom(Random random) {
+        this.throwRandom = random;
     }
 
     public void initializeGame(int playerCount, int pieceCount) {
@@ -53,6 +74,9 @@ public class GameController {
         this.currentTurnThrows.clear();
         this.pendingExtraTurns = 0;
         this.yutOrMoEffectFromLastThrow = false;
+        this.turnThrowCount = 0;
+        this.turnEvent = JfrSupport.AVAILABLE ? new TurnEvent() : null;
+        if (turnEvent != null) turnEvent.begin();
         // 턴이 바뀌면 현재 플레이어의 모든 말의 경로 문맥을 초기화하는 것이 안전할 수 있음.
         // 단, 이월되는 정보가 있다면 신중해야 함
         if (game != null && game.getCurrentPlayer() != null) {
@@ -77,7 +101,28 @@ public class GameController {
     }
 
     public void handleThrowRequest(boolean isRandom) {
-        if (!canPlayerAct()) return;
+        long start = System.nanoTime();
+        ThrowEvent event = JfrSupport.AVAILABLE ? new ThrowEvent() : null;
+        if (event != null) event.begin();
+        Player thrower = game != null ? game.getCurrentPlayer() : null;
+        try {
+            YutThrowResult result = throwYut(isRandom);
+            if (result != null && event != null && event.shouldCommit()) {
+                event.boardShape = selectedBoardShape.name();
+                event.playerIndex = thrower.getIndex();
+                event.result = result.name();
+                event.steps = result.getMove();
+                event.random = isRandom;
+                event.commit();
+            }
+        } finally {
+            GameMetrics.THROW_REQUEST.recordSince(start);
+        }
+    }
+
+    // 던진 윷 결과를 반환 (던지지 못했으면 null)
+    private YutThrowResult throwYut(boolean isRandom) {
+        if (!canPlayerAct()) return null;
         Player currentPlayer = game.getCurrentPlayer();
 
         if (this.pendingExtraTurns > 0) {
@@ -87,18 +132,22 @@ public class GameController {
         this.yutOrMoEffectFromLastThrow = false;
 
         YutThrowResult result;
-        if (isRandom) result = YutThrower.throwRandom();
+        if (isRandom) result = throwRandom != null ? YutThrower.throwRandom(throwRandom) : YutThrower.throwRandom();
         else {
             result = ui.promptForDesignatedThrow();
-            if (result == null) { displayAvailableThrowsAndPromptAction(); return; }
+            if (result == null) { displayAvailableThrowsAndPromptAction(); return null; }
         }
         ui.logMessage(currentPlayer.getName() + " → " + result.name());
         currentTurnThrows.add(result);
+        turnThrowCount++;
+        GameMetrics.recordThrow(result);
 
         if (result == YutThrowResult.YUT || result == YutThrowResult.MO) {
             this.yutOrMoEffectFromLastThrow = true;
+            GameMetrics.recordExtraThrow();
         }
         displayAvailableThrowsAndPromptAction();
+        return result;
     }
 
     private void displayAvailableThrowsAndPromptAction() {
@@ -127,6 +176,15 @@ public class GameController {
     }
 
     public void applySelectedYutAndPiece(YutThrowResult throwToApply, Piece pieceToMove) {
+        long start = System.nanoTime();
+        try {
+            applyMove(throwToApply, pieceToMove);
+        } finally {
+            GameMetrics.APPLY_MOVE.recordSince(start);
+        }
+    }
+
+    private void applyMove(YutThrowResult throwToApply, Piece pieceToMove) {
         if (!canPlayerAct() || !currentTurnThrows.contains(throwToApply)) {
             ui.logMessage("유효하지 않은 행동입니다.");
             return;
@@ -149,10 +207,11 @@ public class GameController {
 
         if (outcome.captured) {
             this.pendingExtraTurns++;
+            GameMetrics.recordExtraThrow();
             ui.logMessage("상대 말을 잡아 추가 던지기 +1! (총 예약 " + this.pendingExtraTurns + "번)");
         }
 
-        ui.refreshBoard();
+        ui.refreshBoard(outcome.changedPositions);
         ui.updateIndicators();
         
         // 승리 조건 확인
@@ -166,7 +225,8 @@ public class GameController {
 
     // 추가된 승리 확인 메소드 - 모든 말이 도착했는지 확인
     private boolean checkPlayerWin(Player player) {
-        return player.getPieces().stream().allMatch(Piece::isFinished);
+        // 말 현황 카운터로 판단 (매 행동마다 호출되므로 스트림을 만들지 않음)
+        return player.getFinishedCount() == player.getPieces().size();
     }
 
     public void playerEndsTurnActions() { // UI의 "턴 마치기" 버튼과 연결
@@ -186,7 +246,10 @@ public class GameController {
             ui.logMessage(game.getCurrentPlayer().getName() + "님, 예약된 추가 던지기 기회가 " + this.pendingExtraTurns + "번 있습니다.");
             startNewThrowSessionForCurrentPlayer();
         } else { // 추가 턴 없으면 턴 종료
+            Player endingPlayer = game.getCurrentPlayer();
             game.nextTurn();
+            GameMetrics.recordTurn();
+            commitTurnEvent(endingPlayer, game.getCurrentPlayer());
             prepareNewTurn();
             ui.logMessage(game.getCurrentPlayer().getName() + " 차례입니다.");
             ui.updateStatusLabel(game.getCurrentPlayer().getName() + " 차례입니다.");
@@ -196,111 +259,22 @@ public class GameController {
         }
     }
     
-    private Position inferDiagonalFromPos(Position pos) {
-    	System.out.println("DEBUG - Finding diagonal from context: " + pos);
-        switch (pos) {
-            case POS_5:
-                return Position.DIA_A2;
-            case POS_10:
-                return Position.DIA_B2;
-            case POS_15:
-                return Position.DIA_C2;
-            default:
-                return null;
-        }
-    }
-
-    private void updatePathContext(Piece piece, Position originalPos, List<Position> path) {
-        // 경로가 비어있으면 아무것도 하지 않음
-        if (path.isEmpty()) return;
-
-        Position prevPos = originalPos;
-        System.out.println("DEBUG - Starting position: " + prevPos);
-
-        for (Position currentPos : path) {
-            // CENTER로 진입하는 경우
-            if (currentPos == Position.CENTER) {
-                // 이전 위치가 지름길인 경우 - 지름길의 컨텍스트 설정
-                if (prevPos.name().startsWith("DIA_")) {
-                    piece.setPathContextWaypoint(prevPos);
-                }
-                // 외곽 경로에서 CENTER로 들어가는 경우
-                else if (prevPos != null && prevPos.name().startsWith("POS_")) {
-                    Position contextDiag = inferDiagonalFromPos(prevPos);
-                    if (contextDiag != null) {
-                        piece.setLastEnteredWaypoint(contextDiag);
-                    }
-                } else {
-                    piece.setPathContextWaypoint(Position.CENTER);
-                }
-                prevPos = currentPos;
-            }
-            // CENTER에서 나가는 경우
-            else if (prevPos == Position.CENTER) {
-                // CENTER에서 지름길로 나가는 경우
-                if (currentPos.name().startsWith("DIA_")) {
-                    char diagPath = currentPos.name().charAt(4); // DIA_X#에서 X 추출
-                    try {
-                        // 해당 지름길의 중간 지점 위치를 컨텍스트로 설정
-                        Position contextPos = Position.valueOf("DIA_" + diagPath + "2");
-                        piece.setPathContextWaypoint(contextPos);
-                    } catch (IllegalArgumentException e) {
-                        // 예상 포지션 이름이 없는 경우 CENTER를 컨텍스트로 설정
-                        piece.setPathContextWaypoint(Position.CENTER);
-                    }
-                }
-                // POS_5 → DIA_A2 (예시로 POS_5에서 A2 지름길로 나가는 경우)
-                else if (currentPos.name().startsWith("POS_")) {
-                    Position contextDiag = piece.getLastEnteredWaypoint();
-                    piece.setPathContextWaypoint(contextDiag);
-                } else {
-                    // CENTER에서 외곽 경로로 나가는 경우 CENTER를 컨텍스트로 저장
-                    piece.setPathContextWaypoint(Position.CENTER);
-                }
-            }
-            // 지름길 내부 이동
-            else if (prevPos.name().startsWith("DIA_") && currentPos.name().startsWith("DIA_")) {
-                char prevDiag = prevPos.name().charAt(4);
-                char currDiag = currentPos.name().charAt(4);
-
-                // 같은 지름길 내 이동 - 컨텍스트 유지
-                if (prevDiag == currDiag) {
-                    // 지름길 중간 지점을 컨텍스트로 설정
-                    try {
-                        Position contextPos = Position.valueOf("DIA_" + prevDiag + "2");
-                        piece.setPathContextWaypoint(contextPos);
-                    } catch (IllegalArgumentException e) {
-                        // 안전장치
-                        piece.setPathContextWaypoint(prevPos);
-                    }
-                }
-            }
-            // 지름길에서 외곽으로 나가는 경우
-            else if (prevPos.name().startsWith("DIA_") && currentPos.name().startsWith("POS_")) {
-                // 지름길 출구를 컨텍스트로 저장
-                piece.setPathContextWaypoint(prevPos);
-            }
-            // 외곽 경로 이동
-            else if (currentPos.name().startsWith("POS_")) {
-                // 일반 외곽 경로 이동 시 컨텍스트 초기화 (필요한 경우)
-                if (!prevPos.name().startsWith("DIA_")) {
-                    piece.clearPathContext();
-                }
-            }
-
-            prevPos = currentPos;
-        }
-
-        // 목적지가 최종 종료(END)인 경우 컨텍스트 초기화
-        if (path.get(path.size() - 1) == Position.END) {
-            piece.clearPathContext();
-        }
+    private void commitTurnEvent(Player endingPlayer, Player nextPlayer) {
+        if (turnEvent == null || !turnEvent.shouldCommit()) return;
+        turnEvent.boardShape = selectedBoardShape.name();
+        turnEvent.playerIndex = endingPlayer.getIndex();
+        turnEvent.nextPlayerIndex = nextPlayer.getIndex();
+        turnEvent.throwCount = turnThrowCount;
+        turnEvent.commit();
     }
 
     private MoveOutcome movePiece(Player player, Piece pieceToMove, YutThrowResult yutResult) {
+        MoveEvent moveEvent = JfrSupport.AVAILABLE ? new MoveEvent() : null;
+        if (moveEvent != null) moveEvent.begin();
         Position originalPos = pieceToMove.getPosition();
         boolean captured = false;
         boolean pieceActuallyMoved = false;
+        List<Position> changedPositions = new ArrayList<>(2);
 
         // 현재 경로 컨텍스트 저장 (이동 전)
         Position originalContext = pieceToMove.getPathContextWaypoint();
@@ -326,9 +300,16 @@ public class GameController {
         if (!generatedPath.isEmpty()) {
             Position destination = generatedPath.get(generatedPath.size() - 1);
             Position currentPosBeforeBoardPlace = pieceToMove.getPosition(); // Board.placePiece 호출 전 위치
+            // 경로 문맥이 바뀌기 전에 애니메이션용 중간 경로 계산
+            List<Position> travelPath = buildTravelPath(pieceToMove, yutResult.getMove(), destination);
 
             // 경로 컨텍스트 업데이트 로직 개선
-            updatePathContext(pieceToMove, originalPos, generatedPath);
+            PathManager.updatePathContext(pieceToMove, originalPos, generatedPath);
+
+            int opponentsAtDestination = 0;
+            for (Piece p : game.getBoard().getPiecesAt(destination)) {
+                if (!p.getOwner().equals(player)) opponentsAtDestination++;
+            }
 
             // 그룹 이동 및 상대 말 잡기
             for (Piece pInGroup : groupToMove) {
@@ -344,9 +325,36 @@ public class GameController {
 
             if (pieceToMove.getPosition() != currentPosBeforeBoardPlace || pieceToMove.getPosition() == Position.END) {
                 pieceActuallyMoved = true;
+                GameMetrics.recordMove();
+            }
+            if (captured) {
+                GameMetrics.recordCapture(opponentsAtDestination);
+                CaptureEvent captureEvent = JfrSupport.AVAILABLE ? new CaptureEvent() : null;
+                if (captureEvent != null && captureEvent.shouldCommit()) {
+                    captureEvent.boardShape = selectedBoardShape.name();
+                    captureEvent.playerIndex = player.getIndex();
+                    captureEvent.position = destination.ordinal();
+                    captureEvent.capturedPieces = opponentsAtDestination;
+                    captureEvent.commit();
+                }
             }
 
+            // 잡힌 말은 도착지에서 빠지므로 출발지와 도착지만 다시 그리면 됨
+            if (isOnBoard(originalPos)) changedPositions.add(originalPos);
+            if (isOnBoard(destination) && destination != originalPos) changedPositions.add(destination);
+
             if (pieceActuallyMoved) {
+                if (moveEvent != null && moveEvent.shouldCommit()) {
+                    moveEvent.boardShape = selectedBoardShape.name();
+                    moveEvent.playerIndex = player.getIndex();
+                    moveEvent.fromPosition = originalPos.ordinal();
+                    moveEvent.toPosition = destination.ordinal();
+                    moveEvent.steps = yutResult.getMove();
+                    moveEvent.stackSize = groupToMove.size();
+                    moveEvent.captured = captured;
+                    moveEvent.commit();
+                }
+                ui.animateMove(groupToMove, travelPath);
                 String logMsg = player.getName() + "님의 말 " + groupToMove.size() + "개 (" +
                         pieceToMove.getOwner().getName() + ") " + originalPos.name() +
                         " → " + destination.name() + " (" + yutResult.name() + ")";
@@ -360,7 +368,30 @@ public class GameController {
         } else {
             pieceActuallyMoved = false;
         }
-        return new MoveOutcome(pieceActuallyMoved, captured);
+        return new MoveOutcome(pieceActuallyMoved, captured, changedPositions);
+    }
+
+    /**
+     * 애니메이션용 이동 경로: 출발점부터 한 칸씩 진행한 위치들 (END는 제외).
+     * 각 중간 칸은 출발 상태에서 k칸 이동한 결과이므로 실제 이동 규칙과 같은 경로를 따른다.
+     */
+    private List<Position> buildTravelPath(Piece piece, int steps, Position destination) {
+        List<Position> travel = new ArrayList<>();
+        Position start = piece.getPosition();
+        travel.add(start == Position.OFFBOARD ? Position.POS_0 : start);
+        for (int k = 1; k < steps; k++) {
+            List<Position> next = PathManager.computeNextPositions(piece, k, selectedBoardShape); // 애니메이션용이라 지표에 기록하지 않음
+            if (next.isEmpty() || next.get(next.size() - 1) == Position.END) break;
+            travel.add(next.get(next.size() - 1));
+        }
+        if (destination != Position.END) {
+            travel.add(destination);
+        }
+        return travel;
+    }
+
+    private static boolean isOnBoard(Position pos) {
+        return pos != Position.OFFBOARD && pos != Position.END;
     }
     
     public BoardShape getShape() { 
@@ -375,6 +406,12 @@ public class GameController {
         return new ArrayList<>(currentTurnThrows);
     }
 
+    /** 남은 윷 결과 × 움직일 수 있는 말 묶음마다의 이동 결과 (UI 미리보기, 봇용) */
+    public MoveOptions getMoveOptions() {
+        if (!canPlayerAct() || currentTurnThrows.isEmpty()) return MoveOptions.empty();
+        return MoveOptions.compute(moveGenerator, GameState.from(game), currentTurnThrows, pendingExtraTurns > 0);
+    }
+
     public List<Piece> getMovablePiecesForCurrentPlayer() {
         if (game == null || game.getCurrentPlayer() == null) return new ArrayList<>();
         return game.getCurrentPlayer().getPieces().stream()
@@ -1,14 +1,15 @@
-package frontend;
+package backend.controller;
 
 import backend.game.Game;
 import backend.game.YutThrowResult;
 import backend.model.BoardShape;
 import backend.model.Piece;
+import backend.model.Position;
 import java.util.List;
 
 public interface YutGameUIInterface {
     // 게임 초기화 및 설정
-    void setController(backend.controller.GameController controller);
+    void setController(GameController controller);
     void setGameModel(Game gameModel);
     void promptForGameSetup();
     
@@ -16,7 +17,9 @@ public interface YutGameUIInterface {
     void updateStatusLabel(String text);
     void logMessage(String message);
     void refreshBoard();
+    void refreshBoard(List<Position> changedPositions); // 말 이동 후 바뀐 위치만 다시 그리기
     void updateIndicators();
+    void animateMove(List<Piece> pieces, List<Position> travelPath); // 말 이동 애니메이션
     
     // 게임 액션 관련
     void enableThrowButtons(boolean enable);
@@ -11,7 +11,7 @@ public class Game {
 
     public Game(int playerCount, int pieceCount) {
         for (int i = 1; i <= playerCount; i++) {
-            players.add(new Player("Player " + i, pieceCount));
+            players.add(new Player("Player " + i, pieceCount, i - 1));
         }
         board = new Board();
         // 모든 말 OFFBOARD(초기값), POS_0엔 아무도 없음
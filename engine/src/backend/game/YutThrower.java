@@ -0,0 +1,33 @@
+package backend.game;
+
+import java.util.Random;
+
+public class YutThrower {
+    private static final Random random = new Random();
+    // YutThrowResult 순서대로 나올 확률 (%)
+    private static final int[] PERCENT = {5, 25, 25, 20, 15, 10};
+    private static final YutThrowResult[] RESULTS = YutThrowResult.values();
+
+    public static YutThrowResult throwRandom() {
+        return throwRandom(random);
+    }
+
+    /** 주어진 난수 생성기로 던지기 (시드를 고정한 시뮬레이션용) */
+    public static YutThrowResult throwRandom(Random random) {
+        int rand = random.nextInt(100);
+        for (int i = 0; i < RESULTS.length - 1; i++) {
+            rand -= PERCENT[i];
+            if (rand < 0) return RESULTS[i];
+        }
+        return YutThrowResult.MO;
+    }
+
+    /** throwRandom 이 result를 낼 확률 (0~1) */
+    public static double probability(YutThrowResult result) {
+        return PERCENT[result.ordinal()] / 100.0;
+    }
+
+    public static YutThrowResult throwSpecified(YutThrowResult result) {
+        return result;
+    }
+}
@@ -0,0 +1,105 @@
+package backend.metrics;
+
+import backend.game.YutThrowResult;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 진행 지표 모음 (프로세스 전체에서 하나).
+ * 기록은 락 없는 카운터/히스토그램 증가뿐이라 읽는 쪽이 없어도 비용이 거의 들지 않으며,
+ * 합계와 백분위 계산은 값을 읽을 때(JMX 조회 등)만 수행된다.
+ */
+public final class GameMetrics {
+    /** GameController.handleThrowRequest 처리 시간 */
+    public static final LatencyHistogram THROW_REQUEST = new LatencyHistogram("handleThrowRequest");
+    /** GameController.applySelectedYutAndPiece 처리 시간 */
+    public static final LatencyHistogram APPLY_MOVE = new LatencyHistogram("applySelectedYutAndPiece");
+    /** PathManager.getNextPositions 계산 시간 */
+    public static final LatencyHistogram PATH_CALCULATION = new LatencyHistogram("getNextPositions");
+
+    private static final YutThrowResult[] RESULTS = YutThrowResult.values();
+    private static final AtomicLongArray throwsByResult = new AtomicLongArray(RESULTS.length);
+    private static final LongAdder moves = new LongAdder();
+    private static final LongAdder captures = new LongAdder();
+    private static final LongAdder capturedPieces = new LongAdder();
+    private static final LongAdder extraThrows = new LongAdder();
+    private static final LongAdder turns = new LongAdder();
+
+    private GameMetrics() {
+    }
+
+    public static void recordThrow(YutThrowResult result) {
+        throwsByResult.incrementAndGet(result.ordinal());
+    }
+
+    public static void recordMove() {
+        moves.increment();
+    }
+
+    /** 한 번의 이동으로 상대 말 pieceCount개를 잡음 */
+    public static void recordCapture(int pieceCount) {
+        captures.increment();
+        capturedPieces.add(pieceCount);
+    }
+
+    /** 잡기 또는 윷/모로 추가 던지기 기회가 생김 */
+    public static void recordExtraThrow() {
+        extraThrows.increment();
+    }
+
+    public static void recordTurn() {
+        turns.increment();
+    }
+
+    public static long getThrowCount(YutThrowResult result) {
+        return throwsByResult.get(result.ordinal());
+    }
+
+    public static long getThrowCount() {
+        long total = 0;
+        for (int i = 0; i < RESULTS.length; i++) {
+            total += throwsByResult.get(i);
+        }
+        return total;
+    }
+
+    public static long getMoveCount() {
+        return moves.sum();
+    }
+
+    public static long getCaptureCount() {
+        return captures.sum();
+    }
+
+    public static long getCapturedPieceCount() {
+        return capturedPieces.sum();
+    }
+
+    public static long getExtraThrowCount() {
+        return extraThrows.sum();
+    }
+
+    public static long getTurnCount() {
+        return turns.sum();
+    }
+
+    public static LatencyHistogram[] getLatencyHistograms() {
+        return new LatencyHistogram[] {THROW_REQUEST, APPLY_MOVE, PATH_CALCULATION};
+    }
+
+    /** 모든 지표를 0으로 되돌린다. */
+    public static void reset() {
+        for (int i = 0; i < RESULTS.length; i++) {
+            throwsByResult.set(i, 0);
+        }
+        moves.reset();
+        captures.reset();
+        capturedPieces.reset();
+        extraThrows.reset();
+        turns.reset();
+        for (LatencyHistogram histogram : getLatencyHistograms()) {
+            histogram.reset();
+        }
+    }
+}
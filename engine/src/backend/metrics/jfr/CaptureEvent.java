@@ -0,0 +1,29 @@
+package backend.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상대 말 잡기. 위치는 Position.ordinal() 값이다.
+ */
+@Name("yutnori.Capture")
+@Label("Capture")
+@Category({"Yutnori", "Game"})
+@Description("이동한 칸에서 상대 말을 잡음")
+@StackTrace(false)
+public class CaptureEvent extends jdk.jfr.Event {
+    @Label("Board Shape")
+    public String boardShape;
+
+    @Label("Player Index")
+    public int playerIndex;
+
+    @Label("Position")
+    public int position;
+
+    @Label("Captured Pieces")
+    public int capturedPieces;
+}
@@ -0,0 +1,15 @@
+package backend.metrics.jfr;
+
+/**
+ * jdk.jfr 모듈을 쓸 수 있는지 여부.
+ * 엔진 모듈은 jdk.jfr을 선택적으로(requires static) 읽으므로, jdk.jfr 없이 링크한 런타임에서는
+ * 이 값이 false이고 이벤트 클래스를 만들지 않아야 한다.
+ */
+public final class JfrSupport {
+    public static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr")
+            .map(JfrSupport.class.getModule()::canRead)
+            .orElse(false);
+
+    private JfrSupport() {
+    }
+}
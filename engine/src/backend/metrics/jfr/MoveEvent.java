@@ -0,0 +1,38 @@
+package backend.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 말(묶음) 이동 한 번. 위치는 Position.ordinal() 값이다.
+ */
+@Name("yutnori.Move")
+@Label("Piece Move")
+@Category({"Yutnori", "Game"})
+@Description("윷 결과를 말에 적용한 이동")
+@StackTrace(false)
+public class MoveEvent extends jdk.jfr.Event {
+    @Label("Board Shape")
+    public String boardShape;
+
+    @Label("Player Index")
+    public int playerIndex;
+
+    @Label("From Position")
+    public int fromPosition;
+
+    @Label("To Position")
+    public int toPosition;
+
+    @Label("Steps")
+    public int steps;
+
+    @Label("Stack Size")
+    public int stackSize;
+
+    @Label("Captured")
+    public boolean captured;
+}
@@ -0,0 +1,35 @@
+package backend.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PathManager가 경로 문맥으로 지름길을 고른 과정. 위치는 Position.ordinal() 값이며 없으면 -1이다.
+ */
+@Name("yutnori.PathContextResolution")
+@Label("Path Context Resolution")
+@Category({"Yutnori", "Rules"})
+@Description("경로 문맥으로 사용할 지름길 결정")
+@StackTrace(false)
+public class PathContextEvent extends jdk.jfr.Event {
+    @Label("Board Shape")
+    public String boardShape;
+
+    @Label("Current Position")
+    public int position;
+
+    @Label("Context Waypoint")
+    public int context;
+
+    @Label("Fallback Waypoint")
+    public int fallback;
+
+    @Label("Backward")
+    public boolean backward;
+
+    @Label("Chosen Diagonal")
+    public String diagonal;
+}
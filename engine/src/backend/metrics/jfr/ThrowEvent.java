@@ -0,0 +1,32 @@
+package backend.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 윷 던지기 한 번 (GameController.handleThrowRequest 처리 시간)
+ */
+@Name("yutnori.Throw")
+@Label("Yut Throw")
+@Category({"Yutnori", "Game"})
+@Description("윷 던지기 요청 처리")
+@StackTrace(false)
+public class ThrowEvent extends jdk.jfr.Event {
+    @Label("Board Shape")
+    public String boardShape;
+
+    @Label("Player Index")
+    public int playerIndex;
+
+    @Label("Result")
+    public String result;
+
+    @Label("Steps")
+    public int steps;
+
+    @Label("Random")
+    public boolean random;
+}
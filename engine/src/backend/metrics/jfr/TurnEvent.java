@@ -0,0 +1,29 @@
+package backend.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 한 플레이어의 턴. 턴 시작부터 다음 플레이어로 넘어갈 때까지의 기간이다.
+ */
+@Name("yutnori.Turn")
+@Label("Turn")
+@Category({"Yutnori", "Game"})
+@Description("턴 시작부터 턴이 넘어갈 때까지")
+@StackTrace(false)
+public class TurnEvent extends jdk.jfr.Event {
+    @Label("Board Shape")
+    public String boardShape;
+
+    @Label("Player Index")
+    public int playerIndex;
+
+    @Label("Next Player Index")
+    public int nextPlayerIndex;
+
+    @Label("Throws")
+    public int throwCount;
+}
@@ -38,15 +38,13 @@ public class Board {
 
         boolean captured = false;
         if (dest != Position.OFFBOARD) { // 목적지가 판 위인 경우
-            List<Piece> piecesAtDestination = boardMap.getOrDefault(dest, new ArrayList<>());
-            List<Piece> toCapture = new ArrayList<>();
-            for (Piece existingPiece : piecesAtDestination) {
-                if (!existingPiece.getOwner().equals(pc.getOwner())) {
-                    toCapture.add(existingPiece);
-                }
-            }
-            for (Piece capturedPiece : toCapture) {
-                piecesAtDestination.remove(capturedPiece); // 목적지에서 제거
+            List<Piece> piecesAtDestination = boardMap.get(dest);
+            // 뒤에서부터 지우며 상대 말을 잡음 (이동마다 임시 리스트를 만들지 않음)
+            for (int i = piecesAtDestination.size() - 1; i >= 0; i--) {
+                Piece capturedPiece = piecesAtDestination.get(i);
+                if (capturedPiece.getOwner().equals(pc.getOwner())) continue;
+                piecesAtDestination.remove(i); // 목적지에서 제거
+                updateStackSize(capturedPiece.getOwner(), dest, -1);
                 // boardMap.get(Position.OFFBOARD)는 없으므로, 잡힌 말은 단순히 위치만 변경
                 capturedPiece.moveTo(Position.OFFBOARD); // Piece 내부에서 OFFBOARD 이동 시 경로 문맥 초기화됨
                 captured = true;
@@ -56,6 +54,7 @@ public class Board {
         // 새로운 목적지에 말 배치 (OFFBOARD는 boardMap에 없음)
         if (dest != Position.OFFBOARD) {
             boardMap.computeIfAbsent(dest, k -> new ArrayList<>()).add(pc);
+            updateStackSize(pc.getOwner(), dest, 1);
         }
         pc.moveTo(dest); // Piece의 현재 위치 업데이트
         // pc의 경로 문맥 업데이트는 GameController.movePiece에서 이동 후 처리
@@ -66,9 +65,22 @@ public class Board {
     public void removePiece(Piece pc) {
         Position currentPos = pc.getPosition();
         if (currentPos != null && currentPos != Position.OFFBOARD && currentPos != Position.END && boardMap.containsKey(currentPos)) {
-            boardMap.get(currentPos).remove(pc);
+            if (boardMap.get(currentPos).remove(pc)) {
+                updateStackSize(pc.getOwner(), currentPos, -1);
+            }
         }
         // finishedPieces에서도 제거해야 할 수 있음 (규칙에 따라)
         // finishedPieces.remove(pc);
     }
-}
\ No newline at end of file
+
+    // 한 칸에 놓인 같은 플레이어 말 수(업힌 크기)가 delta만큼 바뀌었음을 플레이어에게 알림
+    private void updateStackSize(Player owner, Position pos, int delta) {
+        if (owner == null) return;
+        int size = 0;
+        List<Piece> pieces = boardMap.get(pos);
+        for (int i = 0; i < pieces.size(); i++) {
+            if (pieces.get(i).getOwner() == owner) size++;
+        }
+        owner.onStackResized(size - delta, size);
+    }
+}
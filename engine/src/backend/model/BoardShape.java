@@ -1,6 +1,8 @@
 package backend.model;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.*;
 
 /**
@@ -13,28 +15,60 @@ public enum BoardShape {
 
     private final int outerCount;
     private final List<Character> diagNames;
-    private final Map<Character, Integer> distanceToEndCache = new HashMap<>();
+    private final char[] diagChars;
+    // 경로는 처음 요청될 때 한 번 만들어 불변 리스트로 재사용 (여러 스레드에서 동시에 만들어도 결과가 같음)
+    private volatile List<Position> outerPath;
+    private final AtomicReferenceArray<List<Position>> diagPaths = new AtomicReferenceArray<>(26);
+    private final Map<Character, Integer> distanceToEndCache = new ConcurrentHashMap<>();
+    // 지름길 이름('A'부터)별 출구에서 END까지 칸 수, 처음 요청될 때 만듦
+    private volatile int[] exitDistances;
 
     BoardShape(int outerCount, List<Character> diagNames) {
         this.outerCount = outerCount;
         this.diagNames = diagNames;
+        this.diagChars = new char[diagNames.size()];
+        for (int i = 0; i < diagChars.length; i++) {
+            diagChars[i] = diagNames.get(i);
+        }
     }
 
-    /** 외곽 경로: POS_0 ~ POS_{outerCount-1} */
+    /** 외곽 경로: POS_0 ~ POS_{outerCount-1} (변경 불가) */
     public List<Position> getOuterPath() {
+        List<Position> path = outerPath;
+        if (path == null) {
+            path = computeOuterPath();
+            outerPath = path;
+        }
+        return path;
+    }
+
+    private List<Position> computeOuterPath() {
         List<Position> path = IntStream.range(0, outerCount)
-               .mapToObj(i -> Position.valueOf("POS_" + i))
+               .mapToObj(Position::outer)
                .collect(Collectors.toList());
         
         //마지막에 POS_0 추가
-        path.add(Position.valueOf("POS_0"));
-        return path;
+        path.add(Position.POS_0);
+        return Collections.unmodifiableList(path);
    }
 
     /**
     * 대각선 경로: [입구, DIA_x1, DIA_x2, CENTER, DIA_x3, DIA_x4, 출구]
     */
     public List<Position> getDiagPath(char c) {
+        int slot = c - 'A';
+        if (slot < 0 || slot >= diagPaths.length()) {
+            return computeDiagPath(c);
+        }
+        List<Position> path = diagPaths.get(slot);
+        if (path == null) {
+            path = computeDiagPath(c);
+            diagPaths.set(slot, path);
+        }
+        return path;
+    }
+
+    private List<Position> computeDiagPath(char c) {
         // 사각형 보드 전용: POS_5->CENTER->POS_15 (A), POS_10->CENTER->END (B)
         if (this == TRADITIONAL) {
             if (c == 'A') {
@@ -60,41 +94,41 @@ public enum BoardShape {
                 case 'A':
                     return List.of(
                             Position.POS_5,
-                            Position.valueOf("DIA_A1"), Position.valueOf("DIA_A2"),
+                            Position.DIA_A1, Position.DIA_A2,
                             Position.CENTER,
-                            Position.valueOf("DIA_A3"), Position.valueOf("DIA_A4"),
-                            Position.valueOf("POS_20")
+                            Position.DIA_A3, Position.DIA_A4,
+                            Position.POS_20
                     );
                 case 'B':
                     return List.of(
                             Position.POS_10,
-                            Position.valueOf("DIA_B1"), Position.valueOf("DIA_B2"),
+                            Position.DIA_B1, Position.DIA_B2,
                             Position.CENTER,
-                            Position.valueOf("DIA_B3"), Position.valueOf("DIA_B4"),
+                            Position.DIA_B3, Position.DIA_B4,
                             Position.END
                     );
                 case 'C':
                     return List.of(
-                            Position.valueOf("POS_15"),
-                            Position.valueOf("DIA_C1"), Position.valueOf("DIA_C2"),
+                            Position.POS_15,
+                            Position.DIA_C1, Position.DIA_C2,
                             Position.CENTER,
-                            Position.valueOf("DIA_C3"), Position.valueOf("DIA_C4"),
-                            Position.valueOf("POS_0")
+                            Position.DIA_C3, Position.DIA_C4,
+                            Position.POS_0
                     );
                 default:
                     // 나머지 대각선(D, E)은 기본 계산 방식 사용
                     int step = outerCount / diagNames.size();
                     int entryIdx = (c - 'C') * step + 15; // C 이후부터 계산
                     int exitIdx = (entryIdx + outerCount / 2) % outerCount;
-                    Position exit = Position.valueOf("POS_" + exitIdx);
+                    Position exit = Position.outer(exitIdx);
 
                     return List.of(
-                            Position.valueOf("POS_" + entryIdx),
-                            Position.valueOf("DIA_" + c + "1"),
-                            Position.valueOf("DIA_" + c + "2"),
+                            Position.outer(entryIdx),
+                            Position.diag(c, 1),
+                            Position.diag(c, 2),
                             Position.CENTER,
-                            Position.valueOf("DIA_" + c + "3"),
-                            Position.valueOf("DIA_" + c + "4"),
+                            Position.diag(c, 3),
+                            Position.diag(c, 4),
                             exit
                     );
             }
@@ -104,25 +138,25 @@ public enum BoardShape {
                 case 'A':
                     return List.of(
                             Position.POS_5,
-                            Position.valueOf("DIA_A1"), Position.valueOf("DIA_A2"),
+                            Position.DIA_A1, Position.DIA_A2,
                             Position.CENTER,
-                            Position.valueOf("DIA_A3"), Position.valueOf("DIA_A4"),
-                            Position.valueOf("POS_20")
+                            Position.DIA_A3, Position.DIA_A4,
+                            Position.POS_20
                     );
                 case 'B':
                     return List.of(
                             Position.POS_10,
-                            Position.valueOf("DIA_B1"), Position.valueOf("DIA_B2"),
+                            Position.DIA_B1, Position.DIA_B2,
                             Position.CENTER,
-                            Position.valueOf("DIA_B3"), Position.valueOf("DIA_B4"),
-                            Position.valueOf("POS_25")
+                            Position.DIA_B3, Position.DIA_B4,
+                            Position.POS_25
                     );
                 case 'C':
                     return List.of(
-                            Position.valueOf("POS_15"),
-                            Position.valueOf("DIA_C1"), Position.valueOf("DIA_C2"),
+                            Position.POS_15,
+                            Position.DIA_C1, Position.DIA_C2,
                             Position.CENTER,
-                            Position.valueOf("DIA_C3"), Position.valueOf("DIA_C4"),
+                            Position.DIA_C3, Position.DIA_C4,
                             Position.POS_0
                     );
                 default:
@@ -130,15 +164,15 @@ public enum BoardShape {
                     int step = outerCount / diagNames.size();
                     int entryIdx = (c - 'C') * step + 15; // C 이후부터 계산
                     int exitIdx = (entryIdx + outerCount / 2) % outerCount;
-                    Position exit = Position.valueOf("POS_" + exitIdx);
+                    Position exit = Position.outer(exitIdx);
 
                     return List.of(
-                            Position.valueOf("POS_" + entryIdx),
-                            Position.valueOf("DIA_" + c + "1"),
-                            Position.valueOf("DIA_" + c + "2"),
+                            Position.outer(entryIdx),
+                            Position.diag(c, 1),
+                            Position.diag(c, 2),
                             Position.CENTER,
-                            Position.valueOf("DIA_" + c + "3"),
-                            Position.valueOf("DIA_" + c + "4"),
+                            Position.diag(c, 3),
+                            Position.diag(c, 4),
                             exit
                     );
             }
@@ -149,15 +183,15 @@ public enum BoardShape {
         int step = outerCount / segments;
         int entryIdx = (c - 'A') * step;
         int exitIdx = ((c - 'A' + segments/2) % segments) * step;
-        Position exit = Position.valueOf("POS_" + exitIdx);
+        Position exit = Position.outer(exitIdx);
 
         return List.of(
-                Position.valueOf("POS_" + entryIdx),
-                Position.valueOf("DIA_" + c + "1"),
-                Position.valueOf("DIA_" + c + "2"),
+                Position.outer(entryIdx),
+                Position.diag(c, 1),
+                Position.diag(c, 2),
                 Position.CENTER,
-                Position.valueOf("DIA_" + c + "3"),
-                Position.valueOf("DIA_" + c + "4"),
+                Position.diag(c, 3),
+                Position.diag(c, 4),
                 exit
         );
     }
@@ -177,7 +211,12 @@ public enum BoardShape {
     }
 
     public List<Character> getDiagNames() {
-        return Collections.unmodifiableList(diagNames);
+        return diagNames; // List.of 로 만든 불변 리스트
+    }
+
+    /** 지름길 이름 배열 (경로 계산 반복문용, 호출자가 수정하면 안 됨) */
+    char[] diagChars() {
+        return diagChars;
     }
 
     /**
@@ -202,4 +241,35 @@ public enum BoardShape {
         distanceToEndCache.put(c, distance);
         return distance;
     }
+
+    /**
+     * 후진 경로 선택(PathManager)에서 쓰는 지름길 출구 거리.
+     * 출구가 POS_0이면 0, 외곽 칸이면 남은 칸 수 (출구가 END면 외곽 길이 + 1로, 기존 계산과 같음).
+     * 자주 부르므로 배열에 담아 둔다.
+     */
+    int exitDistance(char c) {
+        int[] distances = exitDistances;
+        if (distances == null) {
+            distances = new int[26];
+            List<Position> outer = getOuterPath();
+            for (char name : diagChars) {
+                List<Position> diag = getDiagPath(name);
+                Position exit = diag.get(diag.size() - 1);
+                distances[name - 'A'] = exit == Position.POS_0 ? 0 : (outer.size() - 1) - outer.indexOf(exit);
+            }
+            exitDistances = distances;
+        }
+        return distances[c - 'A'];
+    }
+
+    /**
+     * 이름으로 보드 형태 찾기 (대소문자 무시).
+     * 명령줄 인자처럼 외부 문자열을 받을 때 valueOf 대신 사용한다.
+     */
+    public static BoardShape fromName(String name) {
+        for (BoardShape shape : values()) {
+            if (shape.name().equalsIgnoreCase(name)) return shape;
+        }
+        throw new IllegalArgumentException("알 수 없는 보드 형태: " + name + " " + Arrays.toString(values()));
+    }
 }
\ No newline at end of file
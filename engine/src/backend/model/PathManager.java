@@ -1,67 +1,91 @@
 // File: src/backend/model/PathManager.java
 package backend.model;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import backend.metrics.GameMetrics;
+import backend.metrics.jfr.JfrSupport;
+import backend.metrics.jfr.PathContextEvent;
+
 import java.util.List;
-import java.util.Map;
 
 public class PathManager {
     
-    private static final Map<BoardShape, Map<Character, Position>> DIAG_ENDPOINTS = new HashMap<>();
+    // -Dyutnori.debug=true 일 때만 경로 계산 과정을 콘솔에 출력
+    private static final boolean DEBUG = Boolean.getBoolean("yutnori.debug");
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final List<Position>[] SINGLE = new List[Position.values().length];
+
+    static {
+        for (Position pos : Position.values()) {
+            SINGLE[pos.ordinal()] = List.of(pos);
+        }
+    }
 
+    /** 게임 진행용. 계산 시간을 GameMetrics.PATH_CALCULATION 에 기록한다 */
     public static List<Position> getNextPositions(Piece piece, int steps, BoardShape shape) {
+        long start = System.nanoTime();
+        try {
+            return computeNextPositions(piece, steps, shape);
+        } finally {
+            GameMetrics.PATH_CALCULATION.recordSince(start);
+        }
+    }
+
+    /**
+     * getNextPositions 와 같은 경로를 계측 없이 계산한다.
+     * 탐색(backend.search)처럼 한 번에 수없이 부르는 곳에서 쓰며, 게임 지표와 스레드 간 경합을 피한다.
+     */
+    public static List<Position> computeNextPositions(Piece piece, int steps, BoardShape shape) {
         Position cur = piece.getPosition();
         Position ctx = piece.getPathContextWaypoint();
         Position fallbackCtx = piece.getLastEnteredWaypoint();
         List<Position> outer = shape.getOuterPath();
-        List<Position> path = new ArrayList<>();
 
-        System.out.println("DEBUG - Current position: " + cur + ", Context: " + ctx + ", Steps: " + steps);
+        if (DEBUG) System.out.println("DEBUG - Current position: " + cur + ", Context: " + ctx + ", Steps: " + steps);
 
         // Early exit conditions
-        if (steps == 0) return path;
+        if (steps == 0) return List.of();
 
         if (cur == Position.OFFBOARD) {
-            if (steps < (outer.size()-1)) path.add(outer.get(steps));
-            else path.add(Position.END);
-            return path;
+            return single(steps < (outer.size()-1) ? outer.get(steps) : Position.END);
         }
 
         // POS_0 처리
         if (cur == Position.POS_0) {
             if (steps > 0) {
                 // 앞으로 가는 경우 - 종료 위치로
-                path.add(Position.END);
-                return path;
+                return single(Position.END);
             } else {
                 // 후진하는 경우 - outer path로 이동
                 if (piece.getPathContextWaypoint() == null) {
                     int targetIdx = ((outer.size()-1) - (-steps) % (outer.size()-1)) % (outer.size()-1);
-                    path.add(outer.get(targetIdx));
-                    return path;
+                    return single(outer.get(targetIdx));
                 } else {
-                    Position tempContextWayPoint = piece.getPathContextWaypoint();
-                    return backward(cur, -steps, ctx, fallbackCtx, outer, shape);
+                    return single(backward(cur, -steps, ctx, fallbackCtx, outer, shape));
                 }
             }
         }
 
-        if (steps < 0) return backward(cur, -steps, ctx, fallbackCtx, outer, shape);
-        else return forward(cur, steps, ctx, outer, shape);
+        if (steps < 0) return single(backward(cur, -steps, ctx, fallbackCtx, outer, shape));
+        else return single(forward(cur, steps, ctx, outer, shape));
+    }
+
+    // 결과는 항상 한 칸이므로 위치별로 미리 만들어 둔 불변 리스트를 돌려줌 (이동 계산마다 리스트를 만들지 않음)
+    private static List<Position> single(Position pos) {
+        return SINGLE[pos.ordinal()];
     }
 
-    private static List<Position> backward(Position cur, int steps,
+    private static Position backward(Position cur, int steps,
                                           Position ctx,Position fallbackCtx, List<Position> outer,
                                           BoardShape shape) {
-        List<Position> out = new ArrayList<>();
-        System.out.println("DEBUG - Current position: " + cur + ", Context: " + ctx + ", Steps: " + steps);
+        Position out = null;
+        if (DEBUG) System.out.println("DEBUG - Current position: " + cur + ", Context: " + ctx + ", Steps: " + steps);
         // 1) CENTER에서 후진
         if (cur == Position.CENTER) {
             // 컨텍스트에 기반한 지름길 찾기 - 어느 지름길로 들어왔는지 정보를 사용
+            PathContextEvent event = beginPathContext();
             char diagChar = findDiagFromContext(cur,ctx,fallbackCtx, shape);
-            System.out.println("DEBUG - Selected diag for backward: " + diagChar);
+            commitPathContext(event, shape, cur, ctx, fallbackCtx, true, diagChar);
+            if (DEBUG) System.out.println("DEBUG - Selected diag for backward: " + diagChar);
             
             List<Position> diag = shape.getDiagPath(diagChar);
             int centerIdx = diag.indexOf(Position.CENTER);
@@ -72,28 +96,30 @@ public class PathManager {
                 
                 if (idx >= 0) {
                     // 지름길 내에서 후진 가능
-                    out.add(diag.get(idx));
+                    out = diag.get(idx);
                 } else {
                     // 지름길 시작점을 넘어서 후진하는 경우
                     int entry = outer.indexOf(diag.get(0));
                     int off = -idx;
                     int oidx = (entry - off % (outer.size()-1) + (outer.size()-1)) % (outer.size()-1);
-                    out.add(outer.get(oidx));
+                    out = outer.get(oidx);
                 }
             } else {
                 // 이런 경우는 없어야 하지만, 안전을 위한 예외 처리
-                char defaultDiag = chooseDiag(ctx, cur, shape.getDiagNames(), true, shape);
+                PathContextEvent fallbackEvent = beginPathContext();
+                char defaultDiag = chooseDiag(ctx, cur, shape.diagChars(), true, shape);
+                commitPathContext(fallbackEvent, shape, cur, ctx, fallbackCtx, true, defaultDiag);
                 List<Position> defaultPath = shape.getDiagPath(defaultDiag);
                 centerIdx = defaultPath.indexOf(Position.CENTER);
                 int idx = centerIdx - steps;
                 
                 if (idx >= 0) {
-                    out.add(defaultPath.get(idx));
+                    out = defaultPath.get(idx);
                 } else {
                     int entry = outer.indexOf(defaultPath.get(0));
                     int off = -idx;
                     int oidx = (entry - off % (outer.size()-1) + (outer.size()-1)) % (outer.size()-1);
-                    out.add(outer.get(oidx));
+                    out = outer.get(oidx);
                 }
             }
             return out;
@@ -107,26 +133,26 @@ public class PathManager {
                 int oIdx = outer.indexOf(cur);
                 if (oIdx != -1) {
                     int tgt = (oIdx - steps % (outer.size()-1) + (outer.size()-1)) % (outer.size()-1);
-                    out.add(outer.get(tgt));
+                    out = outer.get(tgt);
                 } else {
-                    out.add(cur);
+                    out = cur;
                 }
                 return out;
             }
         }
         
         // 2) diag 내부 후진
-        for (char c : shape.getDiagNames()) {
+        for (char c : shape.diagChars()) {
             List<Position> diag = shape.getDiagPath(c);
             int idx = diag.indexOf(cur);
             if (idx != -1) {
                 int tgt = idx - steps;
-                if (tgt >= 0) out.add(diag.get(tgt));
+                if (tgt >= 0) out = diag.get(tgt);
                 else {
                     int entry = outer.indexOf(diag.get(0));
                     int off   = -tgt;
                     int oidx  = (entry - off % (outer.size()-1) + (outer.size()-1)) % (outer.size()-1);
-                    out.add(outer.get(oidx));
+                    out = outer.get(oidx);
                 }
                 return out;
             }
@@ -135,29 +161,31 @@ public class PathManager {
         int oidx = outer.indexOf(cur);
         if (oidx != -1) {
             int tgt = (oidx - steps % (outer.size()-1) + (outer.size()-1)) % (outer.size()-1);
-            out.add(outer.get(tgt));
+            out = outer.get(tgt);
         } else {
-            out.add(cur);
+            out = cur;
         }
         return out;
     }
 
-    private static List<Position> forward(Position cur, int steps,
+    private static Position forward(Position cur, int steps,
                                          Position ctx, List<Position> outer,
                                          BoardShape shape) {
-        List<Position> out = new ArrayList<>();
+        Position out = null;
         
         // 1) CENTER 앞으로
         if (cur == Position.CENTER) {
             // 모든 보드 형태에서는 도착점(END)으로 가는 최단 경로를 선택
-            char d = chooseDiag(ctx, cur, shape.getDiagNames(), false, shape);
+            PathContextEvent event = beginPathContext();
+            char d = chooseDiag(ctx, cur, shape.diagChars(), false, shape);
+            commitPathContext(event, shape, cur, ctx, null, false, d);
             List<Position> diag = shape.getDiagPath(d);
             int cIdx = diag.indexOf(Position.CENTER) + steps;
             return advanceWithPathCheck(diag, cIdx, outer, shape);
         }
         
         // 2) outer→diag 입구 (지름길 시작점에 있는 경우)
-        for (char c : shape.getDiagNames()) {
+        for (char c : shape.diagChars()) {
             List<Position> diag = shape.getDiagPath(c);
             if (diag.get(0) == cur) {
                 int centerIdx = diag.indexOf(Position.CENTER);
@@ -168,33 +196,33 @@ public class PathManager {
                     int over    = steps - centerIdx;
                     // A 지름길에서 CENTER 위치 인덱스 + over
                     int idxA    = diagA.indexOf(Position.CENTER) + over;
-                    Position skipResult = advanceWithPathCheck(diagA, idxA, outer, shape).get(0);
-                    return List.of(skipResult);
+                    Position skipResult = advanceWithPathCheck(diagA, idxA, outer, shape);
+                    return skipResult;
                 }
                 // 그 외 일반 지름길 이동
-                Position result = advanceWithPathCheck(diag, steps, outer, shape).get(0);
-                return List.of(result);
+                Position result = advanceWithPathCheck(diag, steps, outer, shape);
+                return result;
             }
         }
         
         // 3) diag 내부 앞으로 (지름길 안에 있는 경우)
-        for (char c : shape.getDiagNames()) {
+        for (char c : shape.diagChars()) {
             List<Position> diag = shape.getDiagPath(c);
             int idx = diag.indexOf(cur);
             if (idx != -1) {
                 // 지름길에서 움직여 END를 넘어가는 경우 확인
                 if (diag.get(diag.size() - 1) == Position.END && idx + steps >= diag.size()) {
-                    out.add(Position.END);
+                    out = Position.END;
                     return out;
                 }
                 
-                Position result = advanceWithPathCheck(diag, idx + steps, outer, shape).get(0);
+                Position result = advanceWithPathCheck(diag, idx + steps, outer, shape);
                 // 결과가 CENTER면 컨텍스트를 설정
                 if (result == Position.CENTER) {
-                    System.out.println("DEBUG - CENTER reached from diagonal position " + cur + " - Set context to diagonal " + c);
+                    if (DEBUG) System.out.println("DEBUG - CENTER reached from diagonal position " + cur + " - Set context to diagonal " + c);
                     // 컨텍스트 설정은 호출자가 처리해야 함
                 }
-                return List.of(result);
+                return result;
             }
         }
         
@@ -204,37 +232,37 @@ public class PathManager {
             int dest = oidx + steps;
             
             // 지름길 입구에 정확히 도착하는 경우
-            for (char c : shape.getDiagNames()) {
+            for (char c : shape.diagChars()) {
                 List<Position> diag = shape.getDiagPath(c);
                 int eIdx = outer.indexOf(diag.get(0));
                 if (dest == eIdx) {
-                    out.add(diag.get(0));
+                    out = diag.get(0);
                     return out;
                 }
             }
             
             // 지름길 입구를 지나쳐 가는 경우 - 일반 경로로 진행
             if (dest < (outer.size())) {
-                out.add(outer.get(dest));
+                out = outer.get(dest);
             } else {
-                out.add(Position.END);
+                out = Position.END;
             }
         } else {
-            out.add(cur);
+            out = cur;
         }
         return out;
     }
 
-    private static List<Position> advanceWithPathCheck(List<Position> seq,
+    private static Position advanceWithPathCheck(List<Position> seq,
                                                       int idx,
                                                       List<Position> outer,
                                                       BoardShape shape) {
-        List<Position> out = new ArrayList<>();
+        Position out = null;
         int limit = seq.size();
         
         // 1. 지름길 안에서 이동이 완료되는 경우
         if (idx < limit) {
-            out.add(seq.get(idx));
+            out = seq.get(idx);
             return out;
         }
         
@@ -242,10 +270,10 @@ public class PathManager {
         Position exit = seq.get(limit - 1);
         if (exit == Position.POS_0) {
             if (idx == limit - 1) {
-                out.add(Position.POS_0);
+                out = Position.POS_0;
             } else {
                 // 초과(over)인 경우 바로 END
-                out.add(Position.END);
+                out = Position.END;
             }
             return out;
         }
@@ -256,26 +284,144 @@ public class PathManager {
         int oidx = eIdx + over;
         
         // 3.1 지름길을 벗어나 지름길 입구에 정확히 도달하는 경우
-        for (char c : shape.getDiagNames()) {
+        for (char c : shape.diagChars()) {
             int entry = outer.indexOf(shape.getDiagPath(c).get(0));
             if (oidx % (outer.size()-1) == entry) {
-                out.add(shape.getDiagPath(c).get(0));
+                out = shape.getDiagPath(c).get(0);
                 return out;
             }
         }
         
         // 3.2 지름길을 벗어나 END에 도달하거나 그 이상 가는 경우
         if (oidx >= (outer.size()-1)) {
-            out.add(Position.END);
+            out = Position.END;
         } else {
             // 3.3 일반 outer 경로 상의 위치
-            out.add(outer.get(oidx));
+            out = outer.get(oidx);
         }
         return out;
     }
     
+    private static Position inferDiagonalFromPos(Position pos) {
+    	if (DEBUG) System.out.println("DEBUG - Finding diagonal from context: " + pos);
+        switch (pos) {
+            case POS_5:
+                return Position.DIA_A2;
+            case POS_10:
+                return Position.DIA_B2;
+            case POS_15:
+                return Position.DIA_C2;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 말이 path를 따라 originalPos에서 이동한 뒤의 경로 문맥을 갱신한다.
+     * 말 위치를 옮기기(Board.placePiece) 전에 호출해야 한다.
+     */
+    public static void updatePathContext(Piece piece, Position originalPos, List<Position> path) {
+        // 경로가 비어있으면 아무것도 하지 않음
+        if (path.isEmpty()) return;
+
+        Position prevPos = originalPos;
+        if (DEBUG) System.out.println("DEBUG - Starting position: " + prevPos);
+
+        for (Position currentPos : path) {
+            // CENTER로 진입하는 경우
+            if (currentPos == Position.CENTER) {
+                // 이전 위치가 지름길인 경우 - 지름길의 컨텍스트 설정
+                if (prevPos.name().startsWith("DIA_")) {
+                    piece.setPathContextWaypoint(prevPos);
+                }
+                // 외곽 경로에서 CENTER로 들어가는 경우
+                else if (prevPos != null && prevPos.name().startsWith("POS_")) {
+                    Position contextDiag = inferDiagonalFromPos(prevPos);
+                    if (contextDiag != null) {
+                        piece.setLastEnteredWaypoint(contextDiag);
+                    }
+                } else {
+                    piece.setPathContextWaypoint(Position.CENTER);
+                }
+                prevPos = currentPos;
+            }
+            // CENTER에서 나가는 경우
+            else if (prevPos == Position.CENTER) {
+                // CENTER에서 지름길로 나가는 경우
+                if (currentPos.name().startsWith("DIA_")) {
+                    char diagPath = currentPos.name().charAt(4); // DIA_X#에서 X 추출
+                    // 해당 지름길의 중간 지점 위치를 컨텍스트로 설정
+                    Position contextPos = Position.diag(diagPath, 2);
+                    // 예상 포지션이 없는 경우 CENTER를 컨텍스트로 설정
+                    piece.setPathContextWaypoint(contextPos != null ? contextPos : Position.CENTER);
+                }
+                // POS_5 → DIA_A2 (예시로 POS_5에서 A2 지름길로 나가는 경우)
+                else if (currentPos.name().startsWith("POS_")) {
+                    Position contextDiag = piece.getLastEnteredWaypoint();
+                    piece.setPathContextWaypoint(contextDiag);
+                } else {
+                    // CENTER에서 외곽 경로로 나가는 경우 CENTER를 컨텍스트로 저장
+                    piece.setPathContextWaypoint(Position.CENTER);
+                }
+            }
+            // 지름길 내부 이동
+            else if (prevPos.name().startsWith("DIA_") && currentPos.name().startsWith("DIA_")) {
+                char prevDiag = prevPos.name().charAt(4);
+                char currDiag = currentPos.name().charAt(4);
+
+                // 같은 지름길 내 이동 - 컨텍스트 유지
+                if (prevDiag == currDiag) {
+                    // 지름길 중간 지점을 컨텍스트로 설정
+                    Position contextPos = Position.diag(prevDiag, 2);
+                    // 안전장치
+                    piece.setPathContextWaypoint(contextPos != null ? contextPos : prevPos);
+                }
+            }
+            // 지름길에서 외곽으로 나가는 경우
+            else if (prevPos.name().startsWith("DIA_") && currentPos.name().startsWith("POS_")) {
+                // 지름길 출구를 컨텍스트로 저장
+                piece.setPathContextWaypoint(prevPos);
+            }
+            // 외곽 경로 이동
+            else if (currentPos.name().startsWith("POS_")) {
+                // 일반 외곽 경로 이동 시 컨텍스트 초기화 (필요한 경우)
+                if (!prevPos.name().startsWith("DIA_")) {
+                    piece.clearPathContext();
+                }
+            }
+
+            prevPos = currentPos;
+        }
+
+        // 목적지가 최종 종료(END)인 경우 컨텍스트 초기화
+        if (path.get(path.size() - 1) == Position.END) {
+            piece.clearPathContext();
+        }
+    }
+
+    // jdk.jfr이 없는 런타임에서는 null
+    private static PathContextEvent beginPathContext() {
+        if (!JfrSupport.AVAILABLE) return null;
+        PathContextEvent event = new PathContextEvent();
+        event.begin();
+        return event;
+    }
+
+    // JFR 기록 중일 때만 필드를 채워 이벤트를 남김
+    private static void commitPathContext(PathContextEvent event, BoardShape shape, Position cur,
+                                          Position ctx, Position fallbackCtx, boolean backward, char diag) {
+        if (event == null || !event.shouldCommit()) return;
+        event.boardShape = shape.name();
+        event.position = cur.ordinal();
+        event.context = ctx != null ? ctx.ordinal() : -1;
+        event.fallback = fallbackCtx != null ? fallbackCtx.ordinal() : -1;
+        event.backward = backward;
+        event.diagonal = String.valueOf(diag);
+        event.commit();
+    }
+
     private static char findDiagFromContext(Position cur, Position ctx, Position fallbackCtx, BoardShape shape) {
-        System.out.println("DEBUG - Finding diagonal from context: " + ctx);
+        if (DEBUG) System.out.println("DEBUG - Finding diagonal from context: " + ctx);
         
         // 1. Try current context first
         if (ctx != null) {
@@ -283,24 +429,24 @@ public class PathManager {
             if (ctx.name().startsWith("DIA_")) {
                 char pathChar = ctx.name().charAt(4);  // DIA_X2에서 X 추출
                 if (shape.getDiagNames().contains(pathChar)) {
-                    System.out.println("DEBUG - Found diagonal character from context name: " + pathChar);
+                    if (DEBUG) System.out.println("DEBUG - Found diagonal character from context name: " + pathChar);
                     return pathChar;
                 }
             }
             
             // Check if context belongs to a diagonal path
-            for (char c : shape.getDiagNames()) {
+            for (char c : shape.diagChars()) {
                 List<Position> diag = shape.getDiagPath(c);
                 if (diag.contains(ctx)) {
-                    System.out.println("DEBUG - Found diagonal character from context position: " + c);
+                    if (DEBUG) System.out.println("DEBUG - Found diagonal character from context position: " + c);
                     return c;
                 }
             }
             
             // Check if context is a diagonal entrance
-            for (char c : shape.getDiagNames()) {
+            for (char c : shape.diagChars()) {
                 if (ctx == shape.getDiagPath(c).get(0)) {
-                    System.out.println("DEBUG - Context is diagonal entrance for: " + c);
+                    if (DEBUG) System.out.println("DEBUG - Context is diagonal entrance for: " + c);
                     return c;
                 }
             }
@@ -310,13 +456,13 @@ public class PathManager {
                 // Special case for specific positions that are entries to diagonals
                 switch (ctx.name()) {
                     case "POS_5":
-                        System.out.println("DEBUG - Inferred diagonal A from POS_5");
+                        if (DEBUG) System.out.println("DEBUG - Inferred diagonal A from POS_5");
                         return 'A';
                     case "POS_10":
-                        System.out.println("DEBUG - Inferred diagonal B from POS_10");
+                        if (DEBUG) System.out.println("DEBUG - Inferred diagonal B from POS_10");
                         return 'B';
                     case "POS_15":
-                        System.out.println("DEBUG - Inferred diagonal C from POS_15");
+                        if (DEBUG) System.out.println("DEBUG - Inferred diagonal C from POS_15");
                         return 'C';
                     // Add other cases as needed
                 }
@@ -329,15 +475,15 @@ public class PathManager {
             if (fallbackCtx.name().startsWith("DIA_")) {
                 char pathChar = fallbackCtx.name().charAt(4);
                 if (shape.getDiagNames().contains(pathChar)) {
-                    System.out.println("DEBUG - Found diagonal from fallback context name: " + pathChar);
+                    if (DEBUG) System.out.println("DEBUG - Found diagonal from fallback context name: " + pathChar);
                     return pathChar;
                 }
             }
             
-            for (char c : shape.getDiagNames()) {
+            for (char c : shape.diagChars()) {
                 List<Position> diag = shape.getDiagPath(c);
                 if (diag.contains(fallbackCtx)) {
-                    System.out.println("DEBUG - Found diagonal from fallback context: " + c);
+                    if (DEBUG) System.out.println("DEBUG - Found diagonal from fallback context: " + c);
                     return c;
                 }
             }
@@ -358,18 +504,18 @@ public class PathManager {
         
         // 3. Default: Use the board's default center exit path
         char defaultDiag = shape.getDefaultCenterExitPath();
-        System.out.println("DEBUG - Using default diagonal: " + defaultDiag);
+        if (DEBUG) System.out.println("DEBUG - Using default diagonal: " + defaultDiag);
         return defaultDiag;
     }
 
     
     private static char chooseDiag(Position ctx, Position cur,
-                                  List<Character> diags,
+                                  char[] diags,
                                   boolean isBackward,
                                   BoardShape shape) {
     	// Case 1: Center에서 바로 다음 이동이라면 기본 지름길 경로를 사용
         if (ctx != null && cur == Position.CENTER) {
-            System.out.println("DEBUG - Current position is CENTER. Forcing default diagonal.");
+            if (DEBUG) System.out.println("DEBUG - Current position is CENTER. Forcing default diagonal.");
             return shape.getDefaultCenterExitPath();
         }
         // 이전 경로 컨텍스트가 있으면 해당 경로 유지
@@ -378,7 +524,7 @@ public class PathManager {
             if (ctx.name().startsWith("DIA_")) {
                 char pathChar = ctx.name().charAt(4);  // DIA_X2에서 X 추출
                 // 해당 문자가 유효한 지름길 이름인지 확인
-                if (diags.contains(pathChar)) {
+                if (shape.getDiagNames().contains(pathChar)) {
                     return pathChar;
                 }
             }
@@ -401,9 +547,11 @@ public class PathManager {
     	
         if (isBackward) {
             // 컨텍스트가 없는 경우, END까지 거리가 가장 짧은 경로 선택 (기존 로직 유지)
-            List<Character> sorted = new ArrayList<>(diags);
-            sorted.sort(Comparator.comparingInt(c -> getDistanceToEnd(c, shape)));
-            return sorted.get(0);
+            char best = diags[0];
+            for (char c : diags) {
+                if (getDistanceToEnd(c, shape) < getDistanceToEnd(best, shape)) best = c;
+            }
+            return best;
         } else {
             // 앞으로 가는 경우 - 보드 형태별 기본 경로 사용
             return shape.getDefaultCenterExitPath();
@@ -411,22 +559,7 @@ public class PathManager {
     }
     
     private static int getDistanceToEnd(char diag, BoardShape shape) {
-        // Initialize cache for this shape if needed
-        DIAG_ENDPOINTS.computeIfAbsent(shape, k -> new HashMap<>());
-        Map<Character, Position> endpoints = DIAG_ENDPOINTS.get(shape);
-        
-        // Get or calculate endpoint
-        if (!endpoints.containsKey(diag)) {
-            List<Position> diagPath = shape.getDiagPath(diag);
-            endpoints.put(diag, diagPath.get(diagPath.size() - 1));
-        }
-        
-        Position endpoint = endpoints.get(diag);
-        if (endpoint == Position.POS_0) return 0;
-        
-        // Calculate distance
-        List<Position> outer = shape.getOuterPath();
-        int idx = outer.indexOf(endpoint);
-        return (outer.size()-1) - idx;
+        // 출구별 거리는 BoardShape가 배열로 들고 있음 (indexOf 로 매번 찾지 않음)
+        return shape.exitDistance(diag);
     }
 }
\ No newline at end of file
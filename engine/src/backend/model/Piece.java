@@ -5,6 +5,7 @@ package backend.model;
 // import backend.model.PathManager;
 
 public class Piece {
+    private static final boolean DEBUG = Boolean.getBoolean("yutnori.debug");
     private final Player owner;
     private Position position;
     private boolean finished;
@@ -20,10 +21,17 @@ public class Piece {
         this.finished = false;
         this.position = Position.OFFBOARD;
         this.pathContextWaypoint = null;
+        if (owner != null) {
+            owner.onPieceCreated();
+        }
     }
 
     public void moveTo(Position newPos) {
+        Position oldPos = this.position;
         this.position = newPos;
+        if (owner != null && oldPos != newPos) {
+            owner.onPieceMoved(oldPos, newPos); // 플레이어별 말 현황 카운터 갱신
+        }
         if (newPos == Position.END) {
             this.finished = true;
             clearPathContext(); // 도착 시 문맥 초기화
@@ -67,7 +75,7 @@ public class Piece {
     
     public void setLastEnteredWaypoint(Position waypoint) {
         this.lastEnteredWaypoint = waypoint;
-        System.out.println("DEBUG - Set last entered waypoint: " + waypoint);
+        if (DEBUG) System.out.println("DEBUG - Set last entered waypoint: " + waypoint);
     }
 
     public void clearPathContext() {
@@ -0,0 +1,102 @@
+package backend.model;
+
+import java.util.*;
+
+public class Player {
+    private final String name;
+    private final int index; // 게임 내 플레이어 순번 (0부터, 미지정 시 -1)
+    private final List<Piece> pieces = new ArrayList<>();
+
+    // 말 현황 카운터: Piece.moveTo / Board 배치 시점에 증분 갱신됨
+    private int offBoardCount;
+    private int onBoardCount;
+    private int finishedCount;
+    private int[] stackSizeCounts = new int[1]; // [k] = 이 플레이어의 말이 정확히 k개 놓인 칸 수
+    private int stateVersion; // 카운터가 바뀔 때마다 증가 (UI가 바뀐 행만 갱신하는 데 사용)
+
+    public Player(String name, int pieceCount) {
+        this(name, pieceCount, -1);
+    }
+
+    public Player(String name, int pieceCount, int index) {
+        this.name = name;
+        this.index = index;
+        for (int i = 0; i < pieceCount; i++) {
+            pieces.add(new Piece(this));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<Piece> getPieces() {
+        return pieces;
+    }
+
+    public boolean hasFinishedAllPieces() {
+        return pieces.stream().allMatch(Piece::isFinished);
+    }
+
+    public int getOffBoardCount() {
+        return offBoardCount;
+    }
+
+    public int getOnBoardCount() {
+        return onBoardCount;
+    }
+
+    public int getFinishedCount() {
+        return finishedCount;
+    }
+
+    /** 이 플레이어의 말이 정확히 size개 놓인(업힌) 칸의 수 */
+    public int getStackCount(int size) {
+        return size > 0 && size < stackSizeCounts.length ? stackSizeCounts[size] : 0;
+    }
+
+    /** 판 위에서 가장 많이 업힌 말 묶음의 크기 (판 위에 말이 없으면 0) */
+    public int getLargestStackSize() {
+        for (int size = stackSizeCounts.length - 1; size > 0; size--) {
+            if (stackSizeCounts[size] > 0) return size;
+        }
+        return 0;
+    }
+
+    public int getStateVersion() {
+        return stateVersion;
+    }
+
+    // Piece 생성 시 호출 (새 말은 OFFBOARD에서 시작)
+    void onPieceCreated() {
+        offBoardCount++;
+        stateVersion++;
+    }
+
+    // Piece.moveTo에서 위치가 바뀔 때 호출
+    void onPieceMoved(Position from, Position to) {
+        adjustLocationCount(from, -1);
+        adjustLocationCount(to, 1);
+        stateVersion++;
+    }
+
+    // Board에서 한 칸에 놓인 이 플레이어 말 수가 바뀔 때 호출
+    void onStackResized(int oldSize, int newSize) {
+        if (newSize >= stackSizeCounts.length) {
+            stackSizeCounts = Arrays.copyOf(stackSizeCounts, newSize + 1);
+        }
+        if (oldSize > 0) stackSizeCounts[oldSize]--;
+        if (newSize > 0) stackSizeCounts[newSize]++;
+        stateVersion++;
+    }
+
+    private void adjustLocationCount(Position pos, int delta) {
+        if (pos == Position.OFFBOARD) offBoardCount += delta;
+        else if (pos == Position.END) finishedCount += delta;
+        else if (pos != null) onBoardCount += delta;
+    }
+}
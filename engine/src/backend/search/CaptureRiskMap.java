@@ -0,0 +1,210 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.game.YutThrower;
+import backend.model.Board;
+import backend.model.BoardShape;
+import backend.model.PathManager;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 칸마다 "다음 상대 턴들 동안 잡힐 확률" 지도.
+ *
+ * 상대 한 명의 턴은 윷/모가 이어지는 동안 던진 결과 묶음이고, 상대는 그 결과들을 아무 순서로 아무 묶음(또는 대기 말)에 쓸 수 있다.
+ * 칸이 잡힐 확률 = 그 턴의 결과 묶음으로 어떤 묶음이 그 칸에 한 번이라도 멈출 수 있는 턴들의 확률 합 (YutThrower 확률).
+ * 상대가 여럿이면 서로 독립으로 보고 1 - Π(1 - 상대별 확률)로 합친다.
+ * 턴 중간의 잡기로 얻는 추가 턴, 상대 말끼리 업는 것은 고려하지 않는다.
+ *
+ * 묶음 상태(위치, 문맥, 진입 지점)와 남은 결과 묶음별로 닿는 칸을 기억해 두고, 상대별 결과도 말 상태가 그대로면 다시 계산하지 않으므로
+ * 말 하나가 움직인 뒤의 update 는 바뀐 상대의 바뀐 묶음만 새로 계산한다. 한 스레드에서만 쓴다.
+ */
+public final class CaptureRiskMap {
+    // 이어 던지는 윷/모를 최대 몇 번까지 펼칠지 (그 뒤의 확률 0.25^4 는 마지막 결과에서 턴이 끝난 것으로 봄)
+    private static final int MAX_EXTRA_THROWS = 4;
+    private static final YutThrowResult[] THROWS = YutThrowResult.values();
+    private static final int POSITION_COUNT = Position.values().length;
+    private static final int MAX_PLAYERS = 4;
+
+    private final BoardShape shape;
+    // 한 턴에 나올 수 있는 결과 묶음 (윷 결과별 개수를 3비트씩 담은 값)과 그 확률
+    private final int[] turnKeys;
+    private final double[] turnProbabilities;
+    // (말 코드, 결과 묶음) → 닿는 칸 비트 (Position.ordinal())
+    private final Map<Long, Long> reachMemo = new HashMap<>();
+    // (말 코드, 윷 결과) → 이동 뒤 말 코드 (-1이면 움직일 수 없음)
+    private final Map<Long, Integer> moveMemo = new HashMap<>();
+    private final Piece scratch = new Piece(null);
+    // 상대 순번별 마지막으로 계산한 묶음 코드와 그 결과
+    private final int[][] lastStacks = new int[MAX_PLAYERS][];
+    private final double[][] lastRisk = new double[MAX_PLAYERS][];
+    private final double[] risk = new double[POSITION_COUNT];
+
+    public CaptureRiskMap(BoardShape shape) {
+        this.shape = shape;
+        Map<Integer, Double> turns = new HashMap<>();
+        collectTurns(0, 0, 1.0, turns);
+        this.turnKeys = new int[turns.size()];
+        this.turnProbabilities = new double[turns.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Double> e : turns.entrySet()) {
+            turnKeys[i] = e.getKey();
+            turnProbabilities[i] = e.getValue();
+            i++;
+        }
+    }
+
+    // 윷/모가 나오면 이어 던지고, 그 밖의 결과(또는 마지막 허용 횟수)에서 턴이 끝남. 같은 결과 묶음은 확률을 합침
+    private static void collectTurns(int depth, int key, double probability, Map<Integer, Double> turns) {
+        for (YutThrowResult t : THROWS) {
+            double p = probability * YutThrower.probability(t);
+            int next = key + (1 << (3 * t.ordinal()));
+            boolean again = t == YutThrowResult.YUT || t == YutThrowResult.MO;
+            if (again && depth < MAX_EXTRA_THROWS) {
+                collectTurns(depth + 1, next, p, turns);
+            } else {
+                turns.merge(next, p, Double::sum);
+            }
+        }
+    }
+
+    public BoardShape getShape() {
+        return shape;
+    }
+
+    /**
+     * defender 를 뺀 모든 플레이어가 한 턴씩 둔 뒤까지 각 칸이 잡힐 확률을 다시 계산한다.
+     * 말 상태가 지난번과 같은 상대는 이전 결과를 그대로 쓴다.
+     */
+    public void update(Board board, List<Player> players, Player defender) {
+        Arrays.fill(risk, 0);
+        double[] safe = new double[POSITION_COUNT];
+        Arrays.fill(safe, 1);
+        for (int p = 0; p < players.size() && p < MAX_PLAYERS; p++) {
+            Player opponent = players.get(p);
+            if (opponent == defender) continue;
+            int[] stacks = stacksOf(board, opponent);
+            if (!Arrays.equals(stacks, lastStacks[p])) {
+                lastStacks[p] = stacks;
+                lastRisk[p] = opponentRisk(stacks);
+            }
+            for (int pos = 0; pos < POSITION_COUNT; pos++) {
+                safe[pos] *= 1 - lastRisk[p][pos];
+            }
+        }
+        for (int pos = 0; pos < POSITION_COUNT; pos++) {
+            risk[pos] = 1 - safe[pos];
+        }
+    }
+
+    /** 마지막 update 기준으로 pos 에 있는 말이 잡힐 확률 (판 밖이면 0) */
+    public double getRisk(Position pos) {
+        return risk[pos.ordinal()];
+    }
+
+    /** Position.ordinal() 순서의 확률 배열 (복사본) */
+    public double[] toArray() {
+        return risk.clone();
+    }
+
+    // 상대가 움직일 수 있는 묶음들의 말 코드 (판 위 칸마다 하나, 대기 말이 있으면 하나 더), 정렬됨
+    private int[] stacksOf(Board board, Player owner) {
+        List<Integer> codes = new ArrayList<>();
+        for (Position pos : Position.values()) {
+            List<Piece> pieces = board.getPiecesAt(pos);
+            for (Piece piece : pieces) {
+                if (piece.getOwner() == owner) {
+                    codes.add(turnStartCode(piece));
+                    break;
+                }
+            }
+        }
+        for (Piece piece : owner.getPieces()) {
+            if (piece.getPosition() == Position.OFFBOARD) {
+                codes.add(turnStartCode(piece));
+                break;
+            }
+        }
+        int[] result = new int[codes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = codes.get(i);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    // 상대 턴이 시작되면 CENTER에 있는 말의 문맥이 지워짐 (GameController.prepareNewTurn)
+    private static int turnStartCode(Piece piece) {
+        Position pos = piece.getPosition();
+        Position context = pos == Position.CENTER ? null : piece.getPathContextWaypoint();
+        return GameState.code(pos, context, piece.getLastEnteredWaypoint());
+    }
+
+    private double[] opponentRisk(int[] stacks) {
+        double[] result = new double[POSITION_COUNT];
+        for (int i = 0; i < turnKeys.length; i++) {
+            long reach = 0;
+            for (int code : stacks) {
+                reach |= reach(code, turnKeys[i]);
+            }
+            while (reach != 0) {
+                int pos = Long.numberOfTrailingZeros(reach);
+                result[pos] += turnProbabilities[i];
+                reach &= reach - 1;
+            }
+        }
+        return result;
+    }
+
+    // code 상태의 묶음이 남은 결과들(turnKey)을 어떤 순서로든 써서 멈출 수 있는 칸들
+    private long reach(int code, int turnKey) {
+        if (turnKey == 0) return 0;
+        long memoKey = ((long) code << 32) | turnKey;
+        Long cached = reachMemo.get(memoKey);
+        if (cached != null) return cached;
+        long result = 0;
+        for (YutThrowResult t : THROWS) {
+            int shift = 3 * t.ordinal();
+            if (((turnKey >>> shift) & 7) == 0) continue;
+            int moved = move(code, t);
+            if (moved < 0) continue;
+            Position landed = GameState.positionOf(moved);
+            if (landed == Position.END) continue;
+            result |= 1L << landed.ordinal();
+            result |= reach(moved, turnKey - (1 << shift));
+        }
+        reachMemo.put(memoKey, result);
+        return result;
+    }
+
+    // MoveGenerator.apply 와 같은 규칙으로 말 하나를 옮긴 코드 (움직일 수 없으면 -1)
+    private int move(int code, YutThrowResult t) {
+        long memoKey = ((long) code << 8) | t.ordinal();
+        Integer cached = moveMemo.get(memoKey);
+        if (cached != null) return cached;
+        Position from = GameState.positionOf(code);
+        int result = -1;
+        if (!(from == Position.OFFBOARD && t.getMove() < 0)) {
+            scratch.moveTo(from);
+            scratch.setPathContextWaypoint(GameState.contextOf(code));
+            scratch.setLastEnteredWaypoint(GameState.lastEnteredOf(code));
+            List<Position> path = PathManager.computeNextPositions(scratch, t.getMove(), shape);
+            if (!path.isEmpty()) {
+                Position to = path.get(path.size() - 1);
+                PathManager.updatePathContext(scratch, from, path);
+                boolean cleared = to == Position.END || to == Position.OFFBOARD;
+                result = GameState.code(to, cleared ? null : scratch.getPathContextWaypoint(),
+                        scratch.getLastEnteredWaypoint());
+            }
+        }
+        moveMemo.put(memoKey, result);
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package backend.search;
+
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 말 상태마다 END까지 앞으로 가야 하는 최소 칸 수 표 (판 모양별).
+ * PieceGraph의 앞으로 가는 간선(도~모, 칸 수만큼 가중치)을 END에서 거꾸로 따라가는 BFS로 한 번만 만든다.
+ * 가중치가 1~5뿐이라 거리별 버킷을 차례로 비우는 방식(Dial)으로 충분하다.
+ * 지름길 출구만 다루는 BoardShape.distanceToEnd 와 달리 판 위 모든 위치, 경로 문맥을 다룬다.
+ */
+public final class DistanceTable {
+    /** 닿을 수 없는 상태 (앞으로만 가서는 END에 못 가는 경우) */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final DistanceTable[] CACHE = new DistanceTable[BoardShape.values().length];
+
+    private final PieceGraph graph;
+    // 노드별 최소 칸 수
+    private final int[] distance;
+    // (위치, 문맥) 별 최소 칸 수 (마지막 진입 지점 중 가장 짧은 값), 없는 조합은 -1
+    private final int[] distanceByPlace;
+
+    /** 판 모양별 표 (처음 부를 때 계산) */
+    public static synchronized DistanceTable of(BoardShape shape) {
+        DistanceTable table = CACHE[shape.ordinal()];
+        if (table == null) {
+            table = new DistanceTable(shape);
+            CACHE[shape.ordinal()] = table;
+        }
+        return table;
+    }
+
+    private DistanceTable(BoardShape shape) {
+        this.graph = new PieceGraph(shape);
+        int count = graph.size();
+
+        // 거꾸로 된 간선 목록: 도착 노드 → (출발 노드, 칸 수)
+        List<List<int[]>> incoming = new ArrayList<>();
+        List<int[]> intoEnd = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            incoming.add(new ArrayList<>());
+        }
+        for (int s = 0; s < count; s++) {
+            for (int t = 0; t < PieceGraph.THROWS.length; t++) {
+                int steps = PieceGraph.THROWS[t].getMove();
+                if (steps <= 0) continue;
+                int to = graph.next(s, t);
+                int[] edge = {s, steps};
+                if (to == PieceGraph.END_NODE) intoEnd.add(edge);
+                else incoming.get(to).add(edge);
+            }
+        }
+
+        distance = new int[count];
+        Arrays.fill(distance, UNREACHABLE);
+        // buckets[d] = 거리 d 후보 노드들
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int[] edge : intoEnd) {
+            offer(buckets, edge[0], edge[1]);
+        }
+        for (int d = 0; d < buckets.size(); d++) {
+            for (int node : buckets.get(d)) {
+                if (distance[node] <= d) continue;
+                distance[node] = d;
+                for (int[] edge : incoming.get(node)) {
+                    if (distance[edge[0]] > d + edge[1]) offer(buckets, edge[0], d + edge[1]);
+                }
+            }
+        }
+
+        distanceByPlace = new int[1 << 12];
+        Arrays.fill(distanceByPlace, -1);
+        for (int s = 0; s < count; s++) {
+            int place = graph.code(s) & 0xFFF;
+            if (distanceByPlace[place] < 0 || distance[s] < distanceByPlace[place]) {
+                distanceByPlace[place] = distance[s];
+            }
+        }
+    }
+
+    private static void offer(List<List<Integer>> buckets, int node, int d) {
+        while (buckets.size() <= d) {
+            buckets.add(new ArrayList<>());
+        }
+        buckets.get(d).add(node);
+    }
+
+    public BoardShape getShape() {
+        return graph.getShape();
+    }
+
+    /** 이 말이 END까지 앞으로 가야 하는 최소 칸 수 (도착한 말은 0) */
+    public int getDistance(Piece piece) {
+        int index = graph.indexOf(piece);
+        return index == PieceGraph.END_NODE ? 0 : distance[index];
+    }
+
+    public int getDistance(Position pos, Position context, Position lastEntered) {
+        int index = graph.indexOf(pos, context, lastEntered);
+        return index == PieceGraph.END_NODE ? 0 : distance[index];
+    }
+
+    /**
+     * (위치, 경로 문맥)에서 END까지 최소 칸 수.
+     * @throws IllegalArgumentException 이 판에서 나올 수 없는 조합일 때
+     */
+    public int getDistance(Position pos, Position context) {
+        if (pos == Position.END) return 0;
+        int value = distanceByPlace[GameState.code(pos, context, null) & 0xFFF];
+        if (value < 0 && pos == Position.CENTER) value = distanceByPlace[GameState.code(pos, null, null) & 0xFFF];
+        if (value < 0) {
+            throw new IllegalArgumentException(getShape() + "에서 닿을 수 없는 말 상태: " + pos + ", 문맥 " + context);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,207 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.game.YutThrower;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Position;
+
+/**
+ * 판에 혼자 있는 말 하나가 END에 도착할 때까지 걸리는 던지기 수, 턴 수 표.
+ * YutThrower 확률로 흡수 마르코프 연쇄를 풀어 판 모양마다 한 번만 만들고 기본형 배열에 둔다.
+ *
+ * 말 하나의 움직임은 PieceGraph를 따른다 (대기 중 빽도는 버리는 던지기, 윷/모는 같은 턴에 한 번 더).
+ * 턴은 윷/모가 아닌 결과를 던지거나 도착하면 끝난다.
+ * 다른 말과의 업기, 잡기는 고려하지 않으므로 봇이나 화면의 빠른 어림값으로 쓴다.
+ */
+public final class FinishTimeTable {
+    /** 분포를 저장하는 최대 던지기 수 (이보다 오래 걸릴 확률은 getFinishProbability 로 1에서 빼서 구함) */
+    public static final int MAX_THROWS = 120;
+
+    private static final FinishTimeTable[] CACHE = new FinishTimeTable[BoardShape.values().length];
+
+    private final BoardShape shape;
+    private final PieceGraph graph;
+    private final double[] expectedThrows;
+    private final double[] expectedTurns;
+    // [상태 × (MAX_THROWS + 1)] n번 안에 도착할 확률
+    private final double[] finishedWithin;
+
+    /** 판 모양별 표 (처음 부를 때 계산) */
+    public static synchronized FinishTimeTable of(BoardShape shape) {
+        FinishTimeTable table = CACHE[shape.ordinal()];
+        if (table == null) {
+            table = new FinishTimeTable(shape);
+            CACHE[shape.ordinal()] = table;
+        }
+        return table;
+    }
+
+    private FinishTimeTable(BoardShape shape) {
+        this.shape = shape;
+        this.graph = new PieceGraph(shape);
+        int count = graph.size();
+        int throwKinds = PieceGraph.THROWS.length;
+        double[] p = new double[throwKinds];
+        for (YutThrowResult t : PieceGraph.THROWS) {
+            p[t.ordinal()] = YutThrower.probability(t);
+        }
+
+        // 기대값: (I - Q) x = b 를 가우스 소거로 풂 (Q는 END가 아닌 상태 사이의 전이 확률)
+        double[][] matrix = new double[count][count];
+        double[] throwsRhs = new double[count];
+        double[] turnsRhs = new double[count];
+        for (int s = 0; s < count; s++) {
+            matrix[s][s] += 1;
+            throwsRhs[s] = 1;
+            for (int t = 0; t < throwKinds; t++) {
+                int to = graph.next(s, t);
+                if (to != PieceGraph.END_NODE) matrix[s][to] -= p[t];
+                if (graph.turnEnds(s, t)) turnsRhs[s] += p[t];
+            }
+        }
+        double[][] solved = solve(matrix, throwsRhs, turnsRhs);
+        expectedThrows = solved[0];
+        expectedTurns = solved[1];
+
+        // 분포: F_n(s) = Σ p(t) F_{n-1}(다음), 도착하면 1
+        int width = MAX_THROWS + 1;
+        finishedWithin = new double[count * width];
+        for (int n = 1; n <= MAX_THROWS; n++) {
+            for (int s = 0; s < count; s++) {
+                double sum = 0;
+                for (int t = 0; t < throwKinds; t++) {
+                    int to = graph.next(s, t);
+                    sum += p[t] * (to == PieceGraph.END_NODE ? 1 : finishedWithin[to * width + n - 1]);
+                }
+                finishedWithin[s * width + n] = sum;
+            }
+        }
+    }
+
+    // 부분 피벗 가우스 소거, 오른쪽 변 여러 개를 함께 풂
+    private static double[][] solve(double[][] a, double[]... rhs) {
+        int n = a.length;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            for (int row = col + 1; row < n; row++) {
+                if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) pivot = row;
+            }
+            double[] tmp = a[col];
+            a[col] = a[pivot];
+            a[pivot] = tmp;
+            for (double[] b : rhs) {
+                double t = b[col];
+                b[col] = b[pivot];
+                b[pivot] = t;
+            }
+            for (int row = col + 1; row < n; row++) {
+                double factor = a[row][col] / a[col][col];
+                if (factor == 0) continue;
+                for (int k = col; k < n; k++) {
+                    a[row][k] -= factor * a[col][k];
+                }
+                for (double[] b : rhs) {
+                    b[row] -= factor * b[col];
+                }
+            }
+        }
+        for (double[] b : rhs) {
+            for (int row = n - 1; row >= 0; row--) {
+                double sum = b[row];
+                for (int k = row + 1; k < n; k++) {
+                    sum -= a[row][k] * b[k];
+                }
+                b[row] = sum / a[row][row];
+            }
+        }
+        return rhs;
+    }
+
+    public BoardShape getShape() {
+        return shape;
+    }
+
+    /** 표에 있는 말 상태 수 (END 제외) */
+    public int getStateCount() {
+        return expectedThrows.length;
+    }
+
+    /** 도착까지 평균 던지기 수 (도착한 말은 0) */
+    public double getExpectedThrows(Position pos, Position context, Position lastEntered) {
+        int index = graph.indexOf(pos, context, lastEntered);
+        return index < 0 ? 0 : expectedThrows[index];
+    }
+
+    public double getExpectedThrows(Piece piece) {
+        int index = graph.indexOf(piece);
+        return index < 0 ? 0 : expectedThrows[index];
+    }
+
+    /** 도착까지 평균 턴 수 (윷/모로 이어 던진 것은 같은 턴) */
+    public double getExpectedTurns(Position pos, Position context, Position lastEntered) {
+        int index = graph.indexOf(pos, context, lastEntered);
+        return index < 0 ? 0 : expectedTurns[index];
+    }
+
+    public double getExpectedTurns(Piece piece) {
+        int index = graph.indexOf(piece);
+        return index < 0 ? 0 : expectedTurns[index];
+    }
+
+    /** throwCount 번 안에 도착할 확률 (throwCount는 MAX_THROWS까지) */
+    public double getFinishProbability(Position pos, Position context, Position lastEntered, int throwCount) {
+        if (throwCount < 0 || throwCount > MAX_THROWS) {
+            throw new IllegalArgumentException("던지기 수는 0~" + MAX_THROWS + "입니다: " + throwCount);
+        }
+        int index = graph.indexOf(pos, context, lastEntered);
+        return index < 0 ? 1 : finishedWithin[index * (MAX_THROWS + 1) + throwCount];
+    }
+
+    public double getFinishProbability(Piece piece, int throwCount) {
+        return getFinishProbability(piece.getPosition(), piece.getPathContextWaypoint(),
+                piece.getLastEnteredWaypoint(), throwCount);
+    }
+
+    /** 정확히 n번째 던지기에 도착할 확률 목록 (0번부터 MAX_THROWS번까지) */
+    public double[] getThrowDistribution(Position pos, Position context, Position lastEntered) {
+        double[] distribution = new double[MAX_THROWS + 1];
+        double previous = 0;
+        for (int n = 0; n <= MAX_THROWS; n++) {
+            double within = getFinishProbability(pos, context, lastEntered, n);
+            distribution[n] = within - previous;
+            previous = within;
+        }
+        return distribution;
+    }
+
+    /**
+     * 판 모양별로 위치, 문맥마다 평균 던지기/턴 수를 출력한다.
+     * 사용법: FinishTimeTable [--shape=traditional|pentagon|hexagon]
+     */
+    public static void main(String[] args) {
+        BoardShape[] shapes = BoardShape.values();
+        for (String arg : args) {
+            if (arg.startsWith("--shape=")) {
+                shapes = new BoardShape[]{BoardShape.fromName(arg.substring(arg.indexOf('=') + 1))};
+            } else {
+                System.err.println("알 수 없는 인자: " + arg);
+                System.err.println("사용법: FinishTimeTable [--shape=traditional|pentagon|hexagon]");
+                System.exit(2);
+                return;
+            }
+        }
+        for (BoardShape shape : shapes) {
+            FinishTimeTable table = of(shape);
+            System.out.println(shape + " (" + table.getStateCount() + " states)");
+            for (int index = 0; index < table.graph.size(); index++) {
+                int code = table.graph.code(index);
+                Position context = GameState.contextOf(code);
+                Position lastEntered = GameState.lastEnteredOf(code);
+                System.out.printf("  %-8s ctx=%-8s last=%-8s throws %6.3f turns %6.3f%n",
+                        GameState.positionOf(code), context, lastEntered,
+                        table.expectedThrows[index], table.expectedTurns[index]);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package backend.search;
+
+import backend.game.Game;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 탐색용 게임 상태 (변경 불가).
+ * 말마다 위치, 경로 문맥(pathContextWaypoint), 마지막 진입 지점(lastEnteredWaypoint)을 한 칸씩 저장한다.
+ * 같은 플레이어의 말끼리는 구분하지 않으므로 해시와 키는 말 순서와 무관하다.
+ */
+public final class GameState {
+    /** 말 하나를 나타내는 코드의 비트 수 (위치, 문맥, 진입 지점 각 6비트) */
+    static final int PIECE_BITS = 18;
+    private static final Position[] POSITIONS = Position.values();
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final int players;
+    private final int pieces;
+    private final int current;
+    // [플레이어][말] 순서로 말 코드 (PIECE_BITS 비트)
+    private final int[] codes;
+
+    GameState(int players, int pieces, int current, int[] codes) {
+        this.players = players;
+        this.pieces = pieces;
+        this.current = current;
+        this.codes = codes;
+    }
+
+    /** 모든 말이 대기 중이고 첫 플레이어 차례인 시작 상태 */
+    public static GameState initial(int players, int pieces) {
+        if (players < 1 || players > 4 || pieces < 1 || pieces > 5) {
+            throw new IllegalArgumentException("플레이어 1~4명, 말 1~5개만 지원합니다: " + players + "명, " + pieces + "개");
+        }
+        int[] codes = new int[players * pieces];
+        Arrays.fill(codes, code(Position.OFFBOARD, null, null));
+        return new GameState(players, pieces, 0, codes);
+    }
+
+    /** 진행 중인 게임의 현재 상태 */
+    public static GameState from(Game game) {
+        List<Player> playerList = game.getPlayers();
+        int pieceCount = playerList.get(0).getPieces().size();
+        int[] codes = new int[playerList.size() * pieceCount];
+        for (int p = 0; p < playerList.size(); p++) {
+            List<Piece> owned = playerList.get(p).getPieces();
+            for (int i = 0; i < pieceCount; i++) {
+                Piece piece = owned.get(i);
+                codes[p * pieceCount + i] = code(piece.getPosition(),
+                        piece.getPathContextWaypoint(), piece.getLastEnteredWaypoint());
+            }
+        }
+        return new GameState(playerList.size(), pieceCount, game.getCurrentPlayer().getIndex(), codes);
+    }
+
+    static int code(Position pos, Position context, Position lastEntered) {
+        return pos.ordinal() | (nullableOrdinal(context) << 6) | (nullableOrdinal(lastEntered) << 12);
+    }
+
+    private static int nullableOrdinal(Position pos) {
+        return pos == null ? 0 : pos.ordinal() + 1;
+    }
+
+    private static Position nullablePosition(int value) {
+        return value == 0 ? null : POSITIONS[value - 1];
+    }
+
+    static Position positionOf(int code) {
+        return POSITIONS[code & 63];
+    }
+
+    static Position contextOf(int code) {
+        return nullablePosition((code >>> 6) & 63);
+    }
+
+    static Position lastEnteredOf(int code) {
+        return nullablePosition((code >>> 12) & 63);
+    }
+
+    public int getPlayerCount() {
+        return players;
+    }
+
+    public int getPieceCount() {
+        return pieces;
+    }
+
+    public int getCurrentPlayer() {
+        return current;
+    }
+
+    public Position getPosition(int player, int piece) {
+        return positionOf(codes[player * pieces + piece]);
+    }
+
+    public Position getContext(int player, int piece) {
+        return contextOf(codes[player * pieces + piece]);
+    }
+
+    public Position getLastEntered(int player, int piece) {
+        return lastEnteredOf(codes[player * pieces + piece]);
+    }
+
+    int codeAt(int player, int piece) {
+        return codes[player * pieces + piece];
+    }
+
+    int[] copyCodes() {
+        return codes.clone();
+    }
+
+    public int getFinishedCount(int player) {
+        int count = 0;
+        for (int i = 0; i < pieces; i++) {
+            if (getPosition(player, i) == Position.END) count++;
+        }
+        return count;
+    }
+
+    /** 모든 말이 도착한 플레이어 (없으면 -1) */
+    public int getWinner() {
+        for (int p = 0; p < players; p++) {
+            if (getFinishedCount(p) == pieces) return p;
+        }
+        return -1;
+    }
+
+    /**
+     * 64비트 해시. 말 코드마다 섞은 값을 더하므로(XOR가 아니라 합) 같은 칸에 말이 둘 있어도 상쇄되지 않고,
+     * 같은 플레이어의 말 순서가 바뀌어도 값이 같다.
+     */
+    public long hash() {
+        long h = mix((current + 1) * GAMMA);
+        for (int p = 0; p < players; p++) {
+            long salt = (long) (p + 1) << 32;
+            for (int i = 0; i < pieces; i++) {
+                h += mix((salt | codes[p * pieces + i]) * GAMMA);
+            }
+        }
+        return h;
+    }
+
+    // SplitMix64 마무리 함수 (작은 정수는 GAMMA를 곱해 고르게 퍼뜨린 뒤 넣어야 함)
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** pack 에 필요한 long 수 */
+    public int keyWords() {
+        return keyWords(players, pieces);
+    }
+
+    public static int keyWords(int players, int pieces) {
+        return (2 + players * pieces * PIECE_BITS + 63) / 64;
+    }
+
+    /**
+     * 말 순서와 무관한 고정 길이 키로 압축한다 (플레이어별로 말 코드를 정렬해 채움).
+     * 서로 다른 상태는 항상 다른 키가 된다.
+     */
+    public void pack(long[] out, int offset) {
+        int words = keyWords();
+        Arrays.fill(out, offset, offset + words, 0L);
+        int bit = 0;
+        bit = put(out, offset, bit, current, 2);
+        int[] sorted = new int[pieces];
+        for (int p = 0; p < players; p++) {
+            System.arraycopy(codes, p * pieces, sorted, 0, pieces);
+            Arrays.sort(sorted);
+            for (int code : sorted) {
+                bit = put(out, offset, bit, code, PIECE_BITS);
+            }
+        }
+    }
+
+    /** pack 으로 만든 키를 상태로 되돌린다 (같은 플레이어의 말은 코드 순서로 놓임) */
+    public static GameState unpack(int players, int pieces, long[] in, int offset) {
+        int current = get(in, offset, 0, 2);
+        int[] codes = new int[players * pieces];
+        int bit = 2;
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = get(in, offset, bit, PIECE_BITS);
+            bit += PIECE_BITS;
+        }
+        return new GameState(players, pieces, current, codes);
+    }
+
+    private static int put(long[] out, int offset, int bit, int value, int width) {
+        int word = offset + (bit >>> 6);
+        int shift = bit & 63;
+        out[word] |= (long) value << shift;
+        if (shift + width > 64) {
+            out[word + 1] |= (long) value >>> (64 - shift);
+        }
+        return bit + width;
+    }
+
+    private static int get(long[] in, int offset, int bit, int width) {
+        int word = offset + (bit >>> 6);
+        int shift = bit & 63;
+        long value = in[word] >>> shift;
+        if (shift + width > 64) {
+            value |= in[word + 1] << (64 - shift);
+        }
+        return (int) (value & ((1L << width) - 1));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameState)) return false;
+        GameState other = (GameState) o;
+        if (players != other.players || pieces != other.pieces || current != other.current) return false;
+        long[] a = new long[keyWords()];
+        long[] b = new long[keyWords()];
+        pack(a, 0);
+        other.pack(b, 0);
+        return Arrays.equals(a, b);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("P").append(current + 1).append(" 차례");
+        for (int p = 0; p < players; p++) {
+            sb.append(" | P").append(p + 1).append(':');
+            for (int i = 0; i < pieces; i++) {
+                sb.append(' ').append(getPosition(p, i));
+            }
+        }
+        return sb.toString();
+    }
+}
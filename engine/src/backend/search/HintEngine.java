@@ -0,0 +1,232 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.game.YutThrower;
+import backend.model.BoardShape;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 이번 턴에 둘 (윷 결과, 말) 하나를 추천하는 백그라운드 탐색.
+ *
+ * MoveOptions의 각 수를 둔 뒤의 상태를 깊이를 하나씩 늘려 가며 기대값 탐색(윷 결과 확률 평균, 내 차례는 최대, 상대 차례는 최소)으로 평가하고,
+ * 깊이 하나를 끝낼 때마다 지금까지 가장 좋은 수를 listener 에 넘긴다. 뒤쪽 수는 MoveGenerator 모델(던지고 바로 둠)을 따른다.
+ * 잎 노드 점수 = (가장 앞선 상대의 남은 기대 턴 합) - (내 남은 기대 턴 합), FinishTimeTable 기준.
+ *
+ * 탐색은 데몬 스레드 하나에서 돌고, 새 탐색을 시작하거나 cancel 하면 이전 탐색은 다음 노드에서 바로 멈춘다.
+ * listener 는 탐색 스레드에서 불리므로 오래 걸리는 일은 UI 스레드로 넘긴다.
+ * 넘긴 일이 실행될 때는 이미 취소되었을 수 있으므로 UI 쪽에서도 최신 탐색인지 다시 확인해야 한다.
+ */
+public final class HintEngine implements AutoCloseable {
+    /** 최대 탐색 깊이 (추천 수를 둔 뒤 이어지는 던지기 수) */
+    public static final int MAX_DEPTH = 6;
+    private static final double WIN_SCORE = 1000;
+    private static final YutThrowResult[] THROWS = YutThrowResult.values();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "hint-engine");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Search current;
+
+    /** 탐색 스레드는 첫 start 때 만들어지고 close 로 정리한다 */
+    public HintEngine() {
+    }
+
+    /** 깊이 하나를 마칠 때마다 나오는 추천 */
+    public static final class Hint {
+        private final MoveOptions.Option option;
+        private final double score;
+        private final int depth;
+        private final boolean last;
+
+        Hint(MoveOptions.Option option, double score, int depth, boolean last) {
+            this.option = option;
+            this.score = score;
+            this.depth = depth;
+            this.last = last;
+        }
+
+        public MoveOptions.Option getOption() {
+            return option;
+        }
+
+        /** 추천 수의 평가값 (클수록 유리, 이기면 WIN_SCORE 근처) */
+        public double getScore() {
+            return score;
+        }
+
+        /** 추천 수를 둔 뒤 내다본 던지기 수 */
+        public int getDepth() {
+            return depth;
+        }
+
+        /** 더 깊이 보지 않는 마지막 추천인지 */
+        public boolean isLast() {
+            return last;
+        }
+
+        @Override
+        public String toString() {
+            return option + String.format(" (깊이 %d, %.2f)", depth, score);
+        }
+    }
+
+    /** 진행 중인 탐색 하나 */
+    public static final class Search {
+        private volatile boolean cancelled;
+        private Future<?> future;
+
+        // HintEngine.start 만 만듦
+        Search() {
+        }
+
+        /** 멈춘다. 돌아온 뒤에는 listener 가 다시 불리지 않는다 */
+        public synchronized void cancel() {
+            cancelled = true;
+            Future<?> f = future;
+            if (f != null) f.cancel(true);
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        // 취소되지 않았을 때만 추천을 넘김 (cancel 과 같은 잠금)
+        synchronized boolean publish(Consumer<Hint> listener, Hint hint) {
+            if (cancelled) return false;
+            listener.accept(hint);
+            return true;
+        }
+
+        public boolean isDone() {
+            Future<?> f = future;
+            return f != null && f.isDone();
+        }
+    }
+
+    // 탐색 도중 취소되면 던져서 재귀를 한 번에 빠져나옴
+    private static final class Cancelled extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Cancelled() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 이전 탐색을 취소하고 options 중 추천 수를 찾기 시작한다.
+     * options 가 비어 있으면 아무 것도 하지 않는 (이미 끝난) 탐색을 돌려준다.
+     */
+    public synchronized Search start(BoardShape shape, MoveOptions options, Consumer<Hint> listener) {
+        cancel();
+        Search search = new Search();
+        current = search;
+        if (options.isEmpty()) {
+            search.cancelled = true;
+            return search;
+        }
+        search.future = executor.submit(() -> run(shape, options, listener, search));
+        return search;
+    }
+
+    /** 진행 중인 탐색을 멈춘다 (플레이어가 행동했거나 턴이 바뀌었을 때) */
+    public synchronized void cancel() {
+        if (current != null) {
+            current.cancel();
+            current = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private static void run(BoardShape shape, MoveOptions options, Consumer<Hint> listener, Search search) {
+        Searcher searcher = new Searcher(shape, options.getState().getCurrentPlayer(), search);
+        List<MoveOptions.Option> candidates = options.getOptions();
+        try {
+            for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+                MoveOptions.Option best = null;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (MoveOptions.Option option : candidates) {
+                    double score = searcher.value(option.getResult(), depth);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = option;
+                    }
+                }
+                if (!search.publish(listener, new Hint(best, bestScore, depth, depth == MAX_DEPTH))) return;
+            }
+        } catch (Cancelled e) {
+            // 새 탐색이 시작되었거나 취소됨
+        }
+    }
+
+    private static final class Searcher {
+        private final MoveGenerator generator;
+        private final FinishTimeTable table;
+        private final int me;
+        private final Search search;
+
+        Searcher(BoardShape shape, int me, Search search) {
+            this.generator = new MoveGenerator(shape);
+            this.table = FinishTimeTable.of(shape);
+            this.me = me;
+            this.search = search;
+        }
+
+        // 던지기 전 상태의 기대값 (me 기준)
+        double value(GameState state, int depth) {
+            if (search.isCancelled()) throw new Cancelled();
+            int winner = state.getWinner();
+            if (winner >= 0) return winner == me ? WIN_SCORE + depth : -WIN_SCORE - depth;
+            if (depth == 0) return evaluate(state);
+            boolean maximize = state.getCurrentPlayer() == me;
+            double expected = 0;
+            for (YutThrowResult t : THROWS) {
+                List<MoveGenerator.Move> moves = generator.generate(state, t);
+                double best;
+                if (moves.isEmpty()) {
+                    best = value(generator.pass(state), depth - 1);
+                } else {
+                    best = maximize ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+                    for (MoveGenerator.Move move : moves) {
+                        double v = value(move.getResult(), depth - 1);
+                        best = maximize ? Math.max(best, v) : Math.min(best, v);
+                    }
+                }
+                expected += YutThrower.probability(t) * best;
+            }
+            return expected;
+        }
+
+        // 가장 앞선 상대와 나의 남은 기대 턴 차이
+        private double evaluate(GameState state) {
+            double mine = 0;
+            double leader = Double.POSITIVE_INFINITY;
+            for (int p = 0; p < state.getPlayerCount(); p++) {
+                double turns = remainingTurns(state, p);
+                if (p == me) mine = turns;
+                else leader = Math.min(leader, turns);
+            }
+            return leader == Double.POSITIVE_INFINITY ? -mine : leader - mine;
+        }
+
+        private double remainingTurns(GameState state, int player) {
+            double sum = 0;
+            for (int i = 0; i < state.getPieceCount(); i++) {
+                sum += table.getExpectedTurns(state.getPosition(player, i),
+                        state.getContext(player, i), state.getLastEntered(player, i));
+            }
+            return sum;
+        }
+    }
+}
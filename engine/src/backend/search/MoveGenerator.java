@@ -0,0 +1,193 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.model.PathManager;
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameState에서 윷 결과 하나로 둘 수 있는 모든 수를 만든다.
+ * 경로 계산과 경로 문맥 갱신은 게임과 같은 PathManager 코드를 쓰고,
+ * 업기와 잡기는 Board.placePiece, 턴 넘김은 GameController와 같은 규칙을 따른다.
+ *
+ * 탐색 모델: 한 수 = 윷 한 번 던지고 바로 말 하나(묶음)에 적용.
+ * 윷/모가 나오거나 상대 말을 잡으면 같은 플레이어가 다시 던지고, 아니면 다음 플레이어로 넘어간다.
+ * 움직일 말이 없으면 그 결과는 버리고 턴을 넘긴다 (pass).
+ * 상태를 바꾸지 않으므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class MoveGenerator {
+    private final BoardShape shape;
+
+    public MoveGenerator(BoardShape shape) {
+        this.shape = shape;
+    }
+
+    public BoardShape getShape() {
+        return shape;
+    }
+
+    /** 말 하나(또는 업힌 묶음)를 움직이는 수 */
+    public static final class Move {
+        private final int piece;
+        private final Position from;
+        private final Position to;
+        private final int stackSize;
+        private final boolean captured;
+        private final GameState result;
+
+        Move(int piece, Position from, Position to, int stackSize, boolean captured, GameState result) {
+            this.piece = piece;
+            this.from = from;
+            this.to = to;
+            this.stackSize = stackSize;
+            this.captured = captured;
+            this.result = result;
+        }
+
+        /** 움직인 말 번호 (현재 플레이어 안에서 0부터) */
+        public int getPiece() {
+            return piece;
+        }
+
+        public Position getFrom() {
+            return from;
+        }
+
+        public Position getTo() {
+            return to;
+        }
+
+        public int getStackSize() {
+            return stackSize;
+        }
+
+        public boolean isCaptured() {
+            return captured;
+        }
+
+        public GameState getResult() {
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return from + "→" + to + (stackSize > 1 ? " x" + stackSize : "") + (captured ? " 잡기" : "");
+        }
+    }
+
+    /**
+     * 현재 플레이어가 throwResult로 둘 수 있는 수 목록 (비어 있으면 pass 해야 함).
+     * 위치와 문맥이 똑같은 말은 구분할 수 없으므로 한 번만 만든다.
+     */
+    public List<Move> generate(GameState state, YutThrowResult throwResult) {
+        List<Move> moves = new ArrayList<>();
+        if (state.getWinner() >= 0) return moves;
+        int player = state.getCurrentPlayer();
+        int pieces = state.getPieceCount();
+        for (int i = 0; i < pieces; i++) {
+            int code = state.codeAt(player, i);
+            if (GameState.positionOf(code) == Position.END || isDuplicateLeader(state, player, i, code)) continue;
+            Move move = apply(state, throwResult, i);
+            if (move != null) moves.add(move);
+        }
+        return moves;
+    }
+
+    static boolean isDuplicateLeader(GameState state, int player, int piece, int code) {
+        for (int j = 0; j < piece; j++) {
+            if (state.codeAt(player, j) == code) return true;
+        }
+        return false;
+    }
+
+    /** 움직일 말이 없을 때: 말은 그대로 두고 턴만 넘긴다 */
+    public GameState pass(GameState state) {
+        int[] codes = state.copyCodes();
+        int next = nextPlayer(state, codes);
+        return new GameState(state.getPlayerCount(), state.getPieceCount(), next, codes);
+    }
+
+    /**
+     * 현재 플레이어의 piece번 말(판 위면 같은 칸의 묶음 전체)에 throwResult를 적용한다.
+     * @return 둘 수 없는 수면 null
+     */
+    public Move apply(GameState state, YutThrowResult throwResult, int piece) {
+        return apply(state, throwResult, piece, throwResult == YutThrowResult.YUT || throwResult == YutThrowResult.MO);
+    }
+
+    /**
+     * apply와 같지만, 잡기 말고 턴이 이어지는지를 호출한 쪽이 정한다.
+     * 이미 던져 둔 윷을 쓰는 게임 쪽 모델(MoveOptions)에서는 윷/모가 아니라 남은 윷 결과가 턴을 잇는다.
+     */
+    Move apply(GameState state, YutThrowResult throwResult, int piece, boolean turnContinues) {
+        int player = state.getCurrentPlayer();
+        int pieces = state.getPieceCount();
+        int leaderCode = state.codeAt(player, piece);
+        Position from = GameState.positionOf(leaderCode);
+        int steps = throwResult.getMove();
+        if (from == Position.END || (from == Position.OFFBOARD && steps < 0)) return null;
+
+        // PathManager는 Piece를 받으므로 임시 말에 상태를 옮겨 계산
+        Piece leader = new Piece(null);
+        leader.moveTo(from);
+        leader.setPathContextWaypoint(GameState.contextOf(leaderCode));
+        leader.setLastEnteredWaypoint(GameState.lastEnteredOf(leaderCode));
+        List<Position> path = PathManager.computeNextPositions(leader, steps, shape);
+        if (path.isEmpty()) return null;
+        Position to = path.get(path.size() - 1);
+        PathManager.updatePathContext(leader, from, path);
+        Position newContext = leader.getPathContextWaypoint();
+        boolean contextCleared = to == Position.END || to == Position.OFFBOARD; // Piece.moveTo 규칙
+
+        int[] codes = state.copyCodes();
+        int base = player * pieces;
+        int stackSize = 0;
+        for (int i = 0; i < pieces; i++) {
+            int code = codes[base + i];
+            boolean inGroup = i == piece || (from != Position.OFFBOARD && GameState.positionOf(code) == from);
+            if (!inGroup) continue;
+            Position lastEntered = i == piece ? leader.getLastEnteredWaypoint() : GameState.lastEnteredOf(code);
+            codes[base + i] = GameState.code(to, contextCleared ? null : newContext, lastEntered);
+            stackSize++;
+        }
+
+        boolean captured = false;
+        if (to != Position.END && to != Position.OFFBOARD) {
+            for (int p = 0; p < state.getPlayerCount(); p++) {
+                if (p == player) continue;
+                for (int i = 0; i < pieces; i++) {
+                    int code = codes[p * pieces + i];
+                    if (GameState.positionOf(code) == to) {
+                        // 잡힌 말은 대기 상태로, 경로 문맥만 지워짐 (마지막 진입 지점은 남음)
+                        codes[p * pieces + i] = GameState.code(Position.OFFBOARD, null, GameState.lastEnteredOf(code));
+                        captured = true;
+                    }
+                }
+            }
+        }
+
+        GameState moved = new GameState(state.getPlayerCount(), pieces, player, codes);
+        boolean extraThrow = turnContinues || captured;
+        if (moved.getWinner() < 0 && !extraThrow) {
+            moved = new GameState(state.getPlayerCount(), pieces, nextPlayer(state, codes), codes);
+        }
+        return new Move(piece, from, to, stackSize, captured, moved);
+    }
+
+    // 다음 플레이어로 넘기고, GameController.prepareNewTurn 처럼 CENTER에 있는 그 플레이어 말의 문맥을 지움
+    private static int nextPlayer(GameState state, int[] codes) {
+        int next = (state.getCurrentPlayer() + 1) % state.getPlayerCount();
+        int pieces = state.getPieceCount();
+        for (int i = 0; i < pieces; i++) {
+            int code = codes[next * pieces + i];
+            if (GameState.positionOf(code) == Position.CENTER) {
+                codes[next * pieces + i] = GameState.code(Position.CENTER, null, GameState.lastEnteredOf(code));
+            }
+        }
+        return next;
+    }
+}
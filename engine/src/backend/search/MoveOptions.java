@@ -0,0 +1,161 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 이번 턴에 남은 윷 결과 × 움직일 수 있는 말 묶음마다의 이동 결과를 한 번에 계산한 표.
+ * 같은 윷 결과가 여러 개 남아 있어도 한 번만, 같은 칸에 업힌 말은 묶음 하나로 계산한다 (MoveGenerator.generate).
+ *
+ * 게임 쪽 턴 모델을 따른다: 윷은 이미 던져 두었으므로 말을 옮긴 뒤에도 남은 윷 결과나 예약된 추가 던지기가 있거나
+ * 상대 말을 잡으면 같은 플레이어 차례가 이어지고, 아니면 다음 플레이어로 넘어간다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드에서 함께 읽어도 된다.
+ */
+public final class MoveOptions {
+    private static final MoveOptions EMPTY = new MoveOptions(null, Collections.emptyList());
+
+    /** (윷 결과, 말 묶음) 한 쌍의 이동 결과 */
+    public static final class Option {
+        private final YutThrowResult throwResult;
+        private final MoveGenerator.Move move;
+
+        Option(YutThrowResult throwResult, MoveGenerator.Move move) {
+            this.throwResult = throwResult;
+            this.move = move;
+        }
+
+        public YutThrowResult getThrowResult() {
+            return throwResult;
+        }
+
+        /** 묶음을 대표하는 말 번호 (현재 플레이어 말 목록 안에서 0부터) */
+        public int getPiece() {
+            return move.getPiece();
+        }
+
+        public Position getFrom() {
+            return move.getFrom();
+        }
+
+        public Position getTo() {
+            return move.getTo();
+        }
+
+        public int getStackSize() {
+            return move.getStackSize();
+        }
+
+        public boolean isCaptured() {
+            return move.isCaptured();
+        }
+
+        /** 이동 뒤 상태 (차례가 누구에게 가는지 포함) */
+        public GameState getResult() {
+            return move.getResult();
+        }
+
+        /** getResult().hash() */
+        public long getResultHash() {
+            return move.getResult().hash();
+        }
+
+        @Override
+        public String toString() {
+            return throwResult + " " + move;
+        }
+    }
+
+    private final GameState state;
+    private final List<Option> options;
+
+    private MoveOptions(GameState state, List<Option> options) {
+        this.state = state;
+        this.options = options;
+    }
+
+    /** 둘 수 있는 수가 없는 표 (게임 전, 게임 끝) */
+    public static MoveOptions empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param pendingThrows 이번 턴에 아직 쓰지 않은 윷 결과들 (중복 가능)
+     * @param extraThrowReserved 잡기로 예약된 추가 던지기가 남아 있는지
+     */
+    public static MoveOptions compute(MoveGenerator generator, GameState state,
+                                      List<YutThrowResult> pendingThrows, boolean extraThrowReserved) {
+        if (state.getWinner() >= 0 || pendingThrows.isEmpty()) return EMPTY;
+        int player = state.getCurrentPlayer();
+        int pieces = state.getPieceCount();
+        // 윷 결과와 상관없이 움직일 묶음 대표 말은 한 번만 고름
+        List<Integer> leaders = new ArrayList<>();
+        for (int i = 0; i < pieces; i++) {
+            int code = state.codeAt(player, i);
+            if (GameState.positionOf(code) != Position.END && !MoveGenerator.isDuplicateLeader(state, player, i, code)) {
+                leaders.add(i);
+            }
+        }
+
+        List<Option> options = new ArrayList<>();
+        boolean[] seen = new boolean[YutThrowResult.values().length];
+        boolean turnContinues = pendingThrows.size() > 1 || extraThrowReserved;
+        for (YutThrowResult t : pendingThrows) {
+            if (seen[t.ordinal()]) continue;
+            seen[t.ordinal()] = true;
+            for (int leader : leaders) {
+                MoveGenerator.Move move = generator.apply(state, t, leader, turnContinues);
+                if (move != null) options.add(new Option(t, move));
+            }
+        }
+        return new MoveOptions(state, Collections.unmodifiableList(options));
+    }
+
+    /** 계산 기준 상태 (빈 표면 null) */
+    public GameState getState() {
+        return state;
+    }
+
+    public List<Option> getOptions() {
+        return options;
+    }
+
+    public boolean isEmpty() {
+        return options.isEmpty();
+    }
+
+    /** throwResult를 쓰는 수들 */
+    public List<Option> getOptions(YutThrowResult throwResult) {
+        List<Option> result = new ArrayList<>();
+        for (Option option : options) {
+            if (option.throwResult == throwResult) result.add(option);
+        }
+        return result;
+    }
+
+    /**
+     * 현재 플레이어의 piece번 말을 throwResult로 옮기는 수.
+     * 묶음의 대표가 아닌 말이면 같은 칸(대기 말이면 다른 대기 말)의 대표 수를 돌려준다.
+     * @return 둘 수 없으면 null
+     */
+    public Option find(YutThrowResult throwResult, int piece) {
+        if (state == null || piece < 0) return null;
+        Position pos = state.getPosition(state.getCurrentPlayer(), piece);
+        Option samePlace = null;
+        for (Option option : options) {
+            if (option.throwResult != throwResult) continue;
+            if (option.getPiece() == piece) return option;
+            if (samePlace == null && option.getFrom() == pos) samePlace = option;
+        }
+        return samePlace;
+    }
+
+    /** 게임의 Piece로 찾기 (GameState.from과 같은 Player.getPieces() 순서) */
+    public Option find(YutThrowResult throwResult, Piece piece) {
+        return find(throwResult, piece.getOwner().getPieces().indexOf(piece));
+    }
+}
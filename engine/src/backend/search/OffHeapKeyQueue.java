@@ -0,0 +1,59 @@
+package backend.search;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 고정 길이 키를 힙 밖에 차례로 쌓아 두는 목록 (BFS 한 단계의 frontier).
+ * 조각(4MB)을 필요한 만큼 잡고, clear 후에는 잡아 둔 조각을 다시 쓴다.
+ */
+final class OffHeapKeyQueue {
+    private static final int CHUNK_BYTES = 1 << 22;
+
+    private final int keyWords;
+    private final int keyBytes;
+    private final int keysPerChunk;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private long size;
+
+    OffHeapKeyQueue(int keyWords) {
+        this.keyWords = keyWords;
+        this.keyBytes = keyWords * Long.BYTES;
+        this.keysPerChunk = CHUNK_BYTES / keyBytes;
+    }
+
+    long size() {
+        return size;
+    }
+
+    void add(long[] key, int offset) {
+        int chunkIndex = (int) (size / keysPerChunk);
+        if (chunkIndex == chunks.size()) {
+            chunks.add(ByteBuffer.allocateDirect(keysPerChunk * keyBytes).order(ByteOrder.nativeOrder()));
+        }
+        ByteBuffer chunk = chunks.get(chunkIndex);
+        int base = (int) (size % keysPerChunk) * keyBytes;
+        for (int w = 0; w < keyWords; w++) {
+            chunk.putLong(base + w * Long.BYTES, key[offset + w]);
+        }
+        size++;
+    }
+
+    void get(long index, long[] out, int offset) {
+        ByteBuffer chunk = chunks.get((int) (index / keysPerChunk));
+        int base = (int) (index % keysPerChunk) * keyBytes;
+        for (int w = 0; w < keyWords; w++) {
+            out[offset + w] = chunk.getLong(base + w * Long.BYTES);
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    long getOffHeapBytes() {
+        return (long) chunks.size() * keysPerChunk * keyBytes;
+    }
+}
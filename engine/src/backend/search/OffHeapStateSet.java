@@ -0,0 +1,195 @@
+package backend.search;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 힙 밖(direct ByteBuffer)에 두는 상태 집합. 오픈 어드레싱, 선형 탐사.
+ * 칸 하나 = [태그 long (hash | 1, 0이면 빈 칸)][GameState.pack 키 long × keyWords].
+ * 버퍼 하나는 1GB까지만 잡고 여러 조각으로 나누므로 수십억 칸도 담을 수 있다
+ * (-XX:MaxDirectMemorySize 로 상한을 충분히 올려야 함).
+ * 칸 번호는 해시의 윗비트로 정하고 태그에 그대로 남으므로, 늘릴 때 키를 다시 해시하지 않는다.
+ *
+ * addConcurrent 는 여러 스레드가 잠금 없이 함께 불러도 된다. 빈 칸(0)의 태그를 CAS로 BUSY로 바꿔 칸을 차지하고,
+ * 키를 쓴 뒤 진짜 태그를 release로 써서 공개한다. 같은 칸을 보던 다른 스레드는 BUSY가 풀릴 때까지 기다렸다가 비교한다.
+ * 여러 스레드로 쓰는 동안에는 표가 자라지 않으므로, 모든 스레드가 멈춘 사이에 reserve 로 미리 늘려 둔다.
+ * add 와 reserve 는 한 스레드에서만 부른다.
+ */
+public final class OffHeapStateSet {
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+    private static final int MIN_BITS = 4;
+    private static final int MAX_LOAD_PERCENT = 75;
+    // 진짜 태그는 항상 홀수이므로 짝수 값을 차지 중 표시로 씀
+    private static final long BUSY = 2;
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final int keyWords;
+    private final int slotBytes;
+    private ByteBuffer[] chunks;
+    private int bits;
+    private int chunkShift;
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * @param keyWords 키 하나의 long 수 (GameState.keyWords)
+     * @param expected 예상 원소 수 (넘으면 두 배씩 늘어남)
+     */
+    public OffHeapStateSet(int keyWords, long expected) {
+        if (keyWords <= 0) throw new IllegalArgumentException("keyWords는 1 이상이어야 합니다: " + keyWords);
+        this.keyWords = keyWords;
+        this.slotBytes = (1 + keyWords) * Long.BYTES;
+        int b = MIN_BITS;
+        while ((1L << b) * MAX_LOAD_PERCENT / 100 < expected) b++;
+        allocate(b);
+    }
+
+    private void allocate(int newBits) {
+        if (newBits > 62) throw new IllegalStateException("집합이 너무 큽니다: 2^" + newBits + "칸");
+        long capacity = 1L << newBits;
+        int perChunkShift = 63 - Long.numberOfLeadingZeros(MAX_CHUNK_BYTES / slotBytes);
+        perChunkShift = Math.min(perChunkShift, newBits);
+        long chunkCount = capacity >>> perChunkShift;
+        if (chunkCount > Integer.MAX_VALUE) throw new IllegalStateException("집합이 너무 큽니다: 2^" + newBits + "칸");
+        ByteBuffer[] newChunks = new ByteBuffer[(int) chunkCount];
+        for (int i = 0; i < newChunks.length; i++) {
+            // allocateDirect 는 0으로 채워 주므로 모든 칸이 빈 칸으로 시작
+            newChunks[i] = ByteBuffer.allocateDirect((1 << perChunkShift) * slotBytes).order(ByteOrder.nativeOrder());
+        }
+        this.chunks = newChunks;
+        this.bits = newBits;
+        this.chunkShift = perChunkShift;
+    }
+
+    public int getKeyWords() {
+        return keyWords;
+    }
+
+    public long size() {
+        return size.sum();
+    }
+
+    /** 칸 수 */
+    public long capacity() {
+        return 1L << bits;
+    }
+
+    /** 잡아 둔 direct 메모리 크기 */
+    public long getOffHeapBytes() {
+        return capacity() * slotBytes;
+    }
+
+    /**
+     * @param hash 키의 해시 (GameState.hash, 윗비트가 고르게 퍼져 있어야 함)
+     * @return 새로 넣었으면 true, 이미 있었으면 false
+     */
+    public boolean add(long hash, long[] key, int offset) {
+        reserve(1);
+        return addConcurrent(hash, key, offset);
+    }
+
+    /**
+     * 여러 스레드에서 함께 부를 수 있는 add. 표를 늘리지 않으므로 reserve 로 미리 자리를 잡아 둬야 한다.
+     * @throws IllegalStateException 빈 칸이 없을 때
+     */
+    public boolean addConcurrent(long hash, long[] key, int offset) {
+        long tag = hash | 1;
+        long mask = capacity() - 1;
+        long slot = tag >>> (64 - bits);
+        for (long probes = 0; probes <= mask; probes++, slot = (slot + 1) & mask) {
+            ByteBuffer chunk = chunk(slot);
+            int base = base(slot);
+            long stored = (long) LONGS.getAcquire(chunk, base);
+            if (stored == 0) {
+                stored = (long) LONGS.compareAndExchange(chunk, base, 0L, BUSY);
+                if (stored == 0) {
+                    for (int w = 0; w < keyWords; w++) {
+                        chunk.putLong(base + (w + 1) * Long.BYTES, key[offset + w]);
+                    }
+                    LONGS.setRelease(chunk, base, tag);
+                    size.increment();
+                    return true;
+                }
+            }
+            if (stored == BUSY) stored = awaitTag(chunk, base);
+            if (stored == tag && keyEquals(chunk, base, key, offset)) return false;
+        }
+        throw new IllegalStateException("빈 칸이 없습니다 (reserve 로 미리 늘려야 함): " + capacity());
+    }
+
+    public boolean contains(long hash, long[] key, int offset) {
+        long tag = hash | 1;
+        long mask = capacity() - 1;
+        long slot = tag >>> (64 - bits);
+        for (long probes = 0; probes <= mask; probes++, slot = (slot + 1) & mask) {
+            ByteBuffer chunk = chunk(slot);
+            int base = base(slot);
+            long stored = (long) LONGS.getAcquire(chunk, base);
+            if (stored == 0) return false;
+            if (stored == BUSY) stored = awaitTag(chunk, base);
+            if (stored == tag && keyEquals(chunk, base, key, offset)) return true;
+        }
+        return false;
+    }
+
+    // 다른 스레드가 키를 다 쓸 때까지 (몇 번의 store) 기다림
+    private static long awaitTag(ByteBuffer chunk, int base) {
+        long stored;
+        while ((stored = (long) LONGS.getAcquire(chunk, base)) == BUSY) {
+            Thread.onSpinWait();
+        }
+        return stored;
+    }
+
+    /**
+     * 앞으로 additional 개를 더 넣어도 부하율을 넘지 않도록 표를 늘린다.
+     * 다른 스레드가 add 하지 않을 때만 부른다.
+     */
+    public void reserve(long additional) {
+        while ((size() + additional) * 100 > capacity() * MAX_LOAD_PERCENT) {
+            grow();
+        }
+    }
+
+    private boolean keyEquals(ByteBuffer chunk, int base, long[] key, int offset) {
+        for (int w = 0; w < keyWords; w++) {
+            if (chunk.getLong(base + (w + 1) * Long.BYTES) != key[offset + w]) return false;
+        }
+        return true;
+    }
+
+    private ByteBuffer chunk(long slot) {
+        return chunks[(int) (slot >>> chunkShift)];
+    }
+
+    private int base(long slot) {
+        return (int) (slot & ((1L << chunkShift) - 1)) * slotBytes;
+    }
+
+    // 두 배로 늘리고 태그를 보고 새 자리로 옮긴다 (잠깐 이전 표와 새 표를 함께 잡음)
+    private void grow() {
+        ByteBuffer[] oldChunks = chunks;
+        int oldShift = chunkShift;
+        allocate(bits + 1);
+        long mask = capacity() - 1;
+        int slotsPerOldChunk = 1 << oldShift;
+        for (ByteBuffer old : oldChunks) {
+            for (int i = 0; i < slotsPerOldChunk; i++) {
+                int from = i * slotBytes;
+                long tag = old.getLong(from);
+                if (tag == 0) continue;
+                long slot = tag >>> (64 - bits);
+                while (chunk(slot).getLong(base(slot)) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                ByteBuffer target = chunk(slot);
+                int to = base(slot);
+                for (int b = 0; b < slotBytes; b += Long.BYTES) {
+                    target.putLong(to + b, old.getLong(from + b));
+                }
+            }
+        }
+    }
+}
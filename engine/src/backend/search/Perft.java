@@ -0,0 +1,296 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 체스 엔진의 perft처럼 정해진 깊이까지 가능한 모든 (윷 결과, 수) 조합을 펼쳐 끝 노드 수를 센다.
+ * 수 생성 검증(다른 구현과 노드 수 비교)과 수 생성 속도 측정에 쓴다.
+ *
+ * 한 단계(ply)는 윷 결과 6가지 각각에 대해 둘 수 있는 모든 수를 펼친 것이다 (움직일 말이 없으면 pass 한 번).
+ * 승부가 난 상태는 더 펼치지 않으며 끝 노드로 세지 않는다.
+ * 같은 상태에 다른 순서로 도달하면 해시 표에 저장해 둔 하위 노드 수를 재사용한다 (중복 상태 검출).
+ *
+ * 작업 스레드끼리 공유하는 것은 해시 표와 노드 수 LongAdder 뿐이다. 경로 계산은 계측 없는
+ * PathManager.computeNextPositions 를 쓰므로 게임 지표(GameMetrics)를 건드리지 않는다.
+ * 스레드를 늘려 빨라지는지는 코어가 여럿인 환경에서 threads=1 결과와 비교해 확인한다.
+ */
+public final class Perft {
+    private static final YutThrowResult[] THROWS = YutThrowResult.values();
+    // 이 깊이 이상 남은 노드는 자식마다 작업을 나눠 병렬로 처리
+    private static final int SPLIT_DEPTH = 3;
+
+    private final MoveGenerator generator;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    /**
+     * @param threads  작업 스레드 수
+     * @param hashBits 해시 표 크기 (2^hashBits 칸), 0이면 중복 검출 안 함
+     */
+    public Perft(BoardShape shape, int threads, int hashBits) {
+        if (threads <= 0) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+        if (hashBits < 0 || hashBits > 30) throw new IllegalArgumentException("hashBits는 0~30입니다: " + hashBits);
+        this.generator = new MoveGenerator(shape);
+        this.pool = new ForkJoinPool(threads);
+        this.table = hashBits == 0 ? null : new TranspositionTable(hashBits);
+    }
+
+    /** 한 번 실행 결과 */
+    public static final class Result {
+        private final int depth;
+        private final long nodes;
+        private final long expanded;
+        private final long hashHits;
+        private final long elapsedNanos;
+        private final Map<YutThrowResult, Long> divide;
+
+        Result(int depth, long nodes, long expanded, long hashHits, long elapsedNanos, Map<YutThrowResult, Long> divide) {
+            this.depth = depth;
+            this.nodes = nodes;
+            this.expanded = expanded;
+            this.hashHits = hashHits;
+            this.elapsedNanos = elapsedNanos;
+            this.divide = divide;
+        }
+
+        /** 깊이 depth의 끝 노드 수 */
+        public long getNodes() {
+            return nodes;
+        }
+
+        /** 실제로 수를 만들어 펼친 노드 수 (해시 재사용분 제외) */
+        public long getExpanded() {
+            return expanded;
+        }
+
+        /** 해시 표에서 하위 노드 수를 재사용한 횟수 (다른 경로로 다시 만난 상태 수) */
+        public long getHashHits() {
+            return hashHits;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1e6;
+        }
+
+        /** 초당 끝 노드 수 */
+        public double getNodesPerSecond() {
+            return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+        }
+
+        /** 첫 윷 결과별 끝 노드 수 (perft divide) */
+        public Map<YutThrowResult, Long> getDivide() {
+            return divide;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<YutThrowResult, Long> e : divide.entrySet()) {
+                sb.append(String.format("%-6s %d%n", e.getKey(), e.getValue()));
+            }
+            sb.append(String.format("depth %d: nodes %d, expanded %d, hash hits %d, %.1f ms, %.0f nodes/s",
+                    depth, nodes, expanded, hashHits, getElapsedMillis(), getNodesPerSecond()));
+            return sb.toString();
+        }
+    }
+
+    public Result run(GameState root, int depth) {
+        if (depth < 1) throw new IllegalArgumentException("깊이는 1 이상이어야 합니다: " + depth);
+        if (table != null) table.clear();
+        LongAdder expanded = new LongAdder();
+        LongAdder hits = new LongAdder();
+        long start = System.nanoTime();
+        Map<YutThrowResult, Long> divide = new EnumMap<>(YutThrowResult.class);
+        List<Node> tasks = new ArrayList<>();
+        List<YutThrowResult> owners = new ArrayList<>();
+        expanded.increment();
+        for (YutThrowResult t : THROWS) {
+            divide.put(t, 0L);
+            for (GameState child : children(root, t)) {
+                tasks.add(new Node(child, depth - 1, expanded, hits));
+                owners.add(t);
+            }
+        }
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+        long nodes = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            long count = tasks.get(i).join();
+            divide.merge(owners.get(i), count, Long::sum);
+            nodes += count;
+        }
+        return new Result(depth, nodes, expanded.sum(), hits.sum(), System.nanoTime() - start, divide);
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // 윷 결과 하나로 갈 수 있는 다음 상태들 (둘 수가 없으면 pass 한 상태 하나)
+    private List<GameState> children(GameState state, YutThrowResult t) {
+        List<GameState> result = new ArrayList<>();
+        for (MoveGenerator.Move move : generator.generate(state, t)) {
+            result.add(move.getResult());
+        }
+        if (result.isEmpty()) result.add(generator.pass(state));
+        return result;
+    }
+
+    private long count(GameState state, int depth, LongAdder expanded, LongAdder hits) {
+        if (state.getWinner() >= 0) return 0; // 마지막 수로 이긴 상태도 끝 노드로 세지 않음
+        if (depth == 0) return 1;
+        long key = 0;
+        if (table != null) {
+            key = GameState.mix(state.hash() + depth * 0x9E3779B97F4A7C15L); // 깊이마다 다른 키
+            long cached = table.get(key);
+            if (cached >= 0) {
+                hits.increment();
+                return cached;
+            }
+        }
+        expanded.increment();
+        long nodes = 0;
+        for (YutThrowResult t : THROWS) {
+            List<MoveGenerator.Move> moves = generator.generate(state, t);
+            if (moves.isEmpty()) {
+                nodes += count(generator.pass(state), depth - 1, expanded, hits);
+            } else {
+                for (MoveGenerator.Move move : moves) {
+                    nodes += count(move.getResult(), depth - 1, expanded, hits);
+                }
+            }
+        }
+        if (table != null) table.put(key, nodes);
+        return nodes;
+    }
+
+    private final class Node extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final GameState state;
+        private final int depth;
+        private final LongAdder expanded;
+        private final LongAdder hits;
+
+        Node(GameState state, int depth, LongAdder expanded, LongAdder hits) {
+            this.state = state;
+            this.depth = depth;
+            this.expanded = expanded;
+            this.hits = hits;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth < SPLIT_DEPTH || state.getWinner() >= 0) {
+                return count(state, depth, expanded, hits);
+            }
+            List<Node> tasks = new ArrayList<>();
+            for (YutThrowResult t : THROWS) {
+                for (GameState child : children(state, t)) {
+                    tasks.add(new Node(child, depth - 1, expanded, hits));
+                }
+            }
+            expanded.increment();
+            invokeAll(tasks);
+            long nodes = 0;
+            for (Node task : tasks) {
+                nodes += task.join();
+            }
+            return nodes;
+        }
+    }
+
+    /**
+     * (상태 해시, 깊이) → 끝 노드 수를 담는 손실 허용 해시 표.
+     * 칸마다 [key ^ value, value] 두 값을 락 없이 쓰고, 읽을 때 두 값을 XOR해 key가 맞는지 확인한다.
+     * 다른 스레드가 반쯤 쓴 칸은 key가 맞지 않아 버려지므로 잠금이 필요 없다.
+     */
+    static final class TranspositionTable {
+        private final AtomicLongArray slots;
+        private final int mask;
+
+        TranspositionTable(int bits) {
+            this.slots = new AtomicLongArray(2 << bits);
+            this.mask = (1 << bits) - 1;
+        }
+
+        /** 없으면 -1 */
+        long get(long key) {
+            int i = ((int) (key ^ (key >>> 32)) & mask) << 1;
+            long value = slots.get(i + 1);
+            return (slots.get(i) ^ value) == key && value > 0 ? value - 1 : -1;
+        }
+
+        void put(long key, long nodes) {
+            int i = ((int) (key ^ (key >>> 32)) & mask) << 1;
+            long value = nodes + 1; // 0은 빈 칸
+            slots.set(i, key ^ value);
+            slots.set(i + 1, value);
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, 0);
+            }
+        }
+    }
+
+    /**
+     * 사용법: Perft [--shape=traditional|pentagon|hexagon] [--players=2] [--pieces=2] [--depth=4]
+     *               [--threads=코어 수] [--hash-bits=22 (0이면 해시 안 씀)]
+     */
+    public static void main(String[] args) {
+        BoardShape shape = BoardShape.TRADITIONAL;
+        int players = 2;
+        int pieces = 2;
+        int depth = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int hashBits = 22;
+        try {
+            for (String arg : args) {
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("--shape=")) shape = BoardShape.fromName(value);
+                else if (arg.startsWith("--players=")) players = Integer.parseInt(value);
+                else if (arg.startsWith("--pieces=")) pieces = Integer.parseInt(value);
+                else if (arg.startsWith("--depth=")) depth = Integer.parseInt(value);
+                else if (arg.startsWith("--threads=")) threads = Integer.parseInt(value);
+                else if (arg.startsWith("--hash-bits=")) hashBits = Integer.parseInt(value);
+                else throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: Perft [--shape=traditional|pentagon|hexagon] [--players=N] [--pieces=N] [--depth=N] [--threads=N] [--hash-bits=N]");
+            System.exit(2);
+            return;
+        }
+
+        Perft perft = new Perft(shape, threads, hashBits);
+        try {
+            System.out.println(shape + " players=" + players + " pieces=" + pieces + " threads=" + threads
+                    + " hash-bits=" + hashBits);
+            GameState root = GameState.initial(players, pieces);
+            for (int d = 1; d <= depth; d++) {
+                Result result = perft.run(root, d);
+                System.out.println(d == depth ? result.toString()
+                        : String.format("depth %d: nodes %d, %.1f ms", d, result.getNodes(), result.getElapsedMillis()));
+            }
+        } finally {
+            perft.shutdown();
+        }
+    }
+}
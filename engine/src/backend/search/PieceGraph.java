@@ -0,0 +1,125 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 판에 혼자 있는 말 하나의 이동 그래프 (판 모양별).
+ * 노드는 시작 상태에서 닿는 말 상태(위치, 문맥, 마지막 진입 지점)이고, 윷 결과마다 다음 노드로 가는 간선이 있다.
+ * 간선은 플레이어 1명, 말 1개인 GameState에 MoveGenerator를 적용해 만든다
+ * (대기 중 빽도는 제자리, 턴이 바뀌면 CENTER 문맥 지움).
+ * END는 노드가 아니며 간선 값 END_NODE로 나타낸다.
+ */
+final class PieceGraph {
+    static final int END_NODE = -1;
+    static final YutThrowResult[] THROWS = YutThrowResult.values();
+
+    private final BoardShape shape;
+    private final int[] codes;
+    // 말 코드 → 노드 번호 (없으면 -1)
+    private final int[] indexByCode;
+    // (위치, 문맥) → 노드 번호, 마지막 진입 지점이 표에 없는 조합일 때 씀
+    private final int[] indexByPlace;
+    // [노드 × 윷 결과] 다음 노드
+    private final int[] next;
+    // [노드 × 윷 결과] 그 던지기로 턴이 끝나는지 (윷/모가 아니거나 도착)
+    private final boolean[] turnEnds;
+
+    PieceGraph(BoardShape shape) {
+        this.shape = shape;
+        MoveGenerator generator = new MoveGenerator(shape);
+        int width = THROWS.length;
+        int[] found = new int[64];
+        int[] edges = new int[64 * width];
+        boolean[] ends = new boolean[64 * width];
+        int count = 0;
+        indexByCode = new int[1 << GameState.PIECE_BITS];
+        Arrays.fill(indexByCode, -1);
+
+        ArrayDeque<GameState> queue = new ArrayDeque<>();
+        GameState start = GameState.initial(1, 1);
+        indexByCode[start.codeAt(0, 0)] = count;
+        found[count++] = start.codeAt(0, 0);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            GameState state = queue.poll();
+            int from = indexByCode[state.codeAt(0, 0)];
+            for (YutThrowResult t : THROWS) {
+                List<MoveGenerator.Move> moves = generator.generate(state, t);
+                GameState child = moves.isEmpty() ? generator.pass(state) : moves.get(0).getResult();
+                boolean finished = child.getWinner() >= 0;
+                int edge = from * width + t.ordinal();
+                ends[edge] = finished || (t != YutThrowResult.YUT && t != YutThrowResult.MO);
+                if (finished) {
+                    edges[edge] = END_NODE;
+                    continue;
+                }
+                int code = child.codeAt(0, 0);
+                if (indexByCode[code] < 0) {
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, count * 2);
+                        edges = Arrays.copyOf(edges, count * 2 * width);
+                        ends = Arrays.copyOf(ends, count * 2 * width);
+                    }
+                    indexByCode[code] = count;
+                    found[count++] = code;
+                    queue.add(child);
+                }
+                edges[edge] = indexByCode[code];
+            }
+        }
+        this.codes = Arrays.copyOf(found, count);
+        this.next = Arrays.copyOf(edges, count * width);
+        this.turnEnds = Arrays.copyOf(ends, count * width);
+
+        indexByPlace = new int[1 << 12];
+        Arrays.fill(indexByPlace, -1);
+        for (int i = count - 1; i >= 0; i--) {
+            indexByPlace[codes[i] & 0xFFF] = i;
+        }
+    }
+
+    BoardShape getShape() {
+        return shape;
+    }
+
+    int size() {
+        return codes.length;
+    }
+
+    int code(int node) {
+        return codes[node];
+    }
+
+    int next(int node, int throwIndex) {
+        return next[node * THROWS.length + throwIndex];
+    }
+
+    boolean turnEnds(int node, int throwIndex) {
+        return turnEnds[node * THROWS.length + throwIndex];
+    }
+
+    /** END면 END_NODE, 그래프에 없는 상태면 IllegalArgumentException */
+    int indexOf(Position pos, Position context, Position lastEntered) {
+        if (pos == Position.END) return END_NODE;
+        int code = GameState.code(pos, context, lastEntered);
+        int index = indexByCode[code];
+        // 상대 차례 동안 CENTER에 남은 문맥은 주인 차례가 시작될 때 지워지므로 지운 상태로 찾음
+        if (index < 0 && pos == Position.CENTER) index = indexByCode[GameState.code(pos, null, lastEntered)];
+        if (index < 0) index = indexByPlace[code & 0xFFF];
+        if (index < 0) {
+            throw new IllegalArgumentException(shape + "에서 닿을 수 없는 말 상태: " + pos + ", 문맥 " + context);
+        }
+        return index;
+    }
+
+    int indexOf(Piece piece) {
+        return indexOf(piece.getPosition(), piece.getPathContextWaypoint(), piece.getLastEnteredWaypoint());
+    }
+}
@@ -0,0 +1,330 @@
+package backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시작 상태에서 갈 수 있는 모든 상태를 단계별 BFS로 센다 (Perft와 같은 한 수 모델).
+ * 방문한 상태와 frontier 모두 힙 밖에 두므로 힙 크기와 관계없이 direct 메모리만큼 셀 수 있다.
+ * 여러 스레드로 돌려도 결과(상태 수, 깊이별 수)는 같고, 한 단계 안에서 찾는 순서만 달라진다.
+ */
+public final class StateSpace {
+    private static final YutThrowResult[] THROWS = YutThrowResult.values();
+    // 한 묶음에서 펼칠 frontier 상태 수 (묶음 사이에 방문 집합을 늘림)
+    private static final int BATCH = 1 << 16;
+    // 작업자가 한 번에 가져가는 상태 수
+    private static final int CLAIM = 256;
+
+    private StateSpace() {
+    }
+
+    /** 한 설정의 열거 결과 */
+    public static final class Result {
+        private final BoardShape shape;
+        private final int players;
+        private final int pieces;
+        private final long states;
+        private final long terminal;
+        private final long[] levels;
+        private final long offHeapBytes;
+        private final long elapsedNanos;
+
+        Result(BoardShape shape, int players, int pieces, long states, long terminal, long[] levels,
+               long offHeapBytes, long elapsedNanos) {
+            this.shape = shape;
+            this.players = players;
+            this.pieces = pieces;
+            this.states = states;
+            this.terminal = terminal;
+            this.levels = levels;
+            this.offHeapBytes = offHeapBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public BoardShape getShape() {
+            return shape;
+        }
+
+        public int getPlayers() {
+            return players;
+        }
+
+        public int getPieces() {
+            return pieces;
+        }
+
+        /** 서로 다른 상태 수 (시작 상태 포함) */
+        public long getStates() {
+            return states;
+        }
+
+        /** 그중 승부가 난 상태 수 */
+        public long getTerminalStates() {
+            return terminal;
+        }
+
+        /** BFS 깊이별 새로 찾은 상태 수 (0번이 시작 상태) */
+        public long[] getLevels() {
+            return levels.clone();
+        }
+
+        /** 가장 먼 상태까지의 수 */
+        public int getMaxDepth() {
+            return levels.length - 1;
+        }
+
+        public long getOffHeapBytes() {
+            return offHeapBytes;
+        }
+
+        public double getElapsedMillis() {
+            return elapsedNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-11s players=%d pieces=%d states=%d terminal=%d depth=%d off-heap=%.1f MB %.1f ms",
+                    shape, players, pieces, states, terminal, getMaxDepth(), offHeapBytes / 1048576.0,
+                    getElapsedMillis());
+        }
+    }
+
+    public static Result enumerate(BoardShape shape, int players, int pieces) {
+        return enumerate(shape, players, pieces, 1);
+    }
+
+    /**
+     * 단계 동기 병렬 BFS. 한 단계의 frontier를 작은 블록으로 나눠 threads개 작업자가 가져가고,
+     * 새로 찾은 상태는 잠금 없는 방문 집합(OffHeapStateSet.addConcurrent)에 넣은 뒤 작업자 자기 버퍼에 쌓는다.
+     * 단계가 끝나면 작업자별 버퍼들이 그대로 다음 단계의 frontier가 된다.
+     */
+    public static Result enumerate(BoardShape shape, int players, int pieces, int threads) {
+        if (threads <= 0) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+        long start = System.nanoTime();
+        int words = GameState.keyWords(players, pieces);
+        OffHeapStateSet visited = new OffHeapStateSet(words, 1 << 16);
+        OffHeapKeyQueue[] current = newQueues(threads, words);
+        OffHeapKeyQueue[] next = newQueues(threads, words);
+
+        GameState root = GameState.initial(players, pieces);
+        long[] key = new long[words];
+        root.pack(key, 0);
+        visited.add(root.hash(), key, 0);
+        current[0].add(key, 0);
+        List<Long> levels = new ArrayList<>();
+        levels.add(1L);
+        LongAdder terminal = new LongAdder();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "state-space");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Worker> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(new Worker(new MoveGenerator(shape), players, pieces, visited, terminal));
+            }
+            // 상태 하나가 만들 수 있는 자식 수의 상한 (윷 결과마다 말 수만큼, 또는 pass 하나)
+            long maxChildren = (long) THROWS.length * pieces;
+            long frontier = 1;
+            while (frontier > 0) {
+                Frontier source = new Frontier(current);
+                for (long batchStart = 0; batchStart < frontier; batchStart += BATCH) {
+                    long batchEnd = Math.min(frontier, batchStart + BATCH);
+                    // 작업자가 도는 동안에는 집합이 자라지 않으므로 이 묶음의 최대 삽입 수만큼 미리 늘림
+                    visited.reserve((batchEnd - batchStart) * maxChildren);
+                    AtomicLong cursor = new AtomicLong(batchStart);
+                    for (int i = 0; i < threads; i++) {
+                        workers.get(i).prepare(source, cursor, batchEnd, next[i]);
+                    }
+                    for (Future<?> done : pool.invokeAll(workers)) {
+                        done.get();
+                    }
+                }
+                frontier = 0;
+                for (OffHeapKeyQueue queue : next) {
+                    frontier += queue.size();
+                }
+                if (frontier > 0) levels.add(frontier);
+                OffHeapKeyQueue[] swap = current;
+                current = next;
+                next = swap;
+                for (OffHeapKeyQueue queue : next) {
+                    queue.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상태 열거가 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("상태 열거 중 오류", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long[] levelCounts = new long[levels.size()];
+        for (int i = 0; i < levelCounts.length; i++) {
+            levelCounts[i] = levels.get(i);
+        }
+        long bytes = visited.getOffHeapBytes();
+        for (int i = 0; i < threads; i++) {
+            bytes += current[i].getOffHeapBytes() + next[i].getOffHeapBytes();
+        }
+        return new Result(shape, players, pieces, visited.size(), terminal.sum(), levelCounts, bytes,
+                System.nanoTime() - start);
+    }
+
+    private static OffHeapKeyQueue[] newQueues(int count, int words) {
+        OffHeapKeyQueue[] queues = new OffHeapKeyQueue[count];
+        for (int i = 0; i < count; i++) {
+            queues[i] = new OffHeapKeyQueue(words);
+        }
+        return queues;
+    }
+
+    /** 작업자별 버퍼들을 이어 붙인 한 단계의 frontier (전체 번호로 읽음) */
+    private static final class Frontier {
+        private final OffHeapKeyQueue[] queues;
+        private final long[] starts;
+
+        Frontier(OffHeapKeyQueue[] queues) {
+            this.queues = queues;
+            this.starts = new long[queues.length + 1];
+            for (int i = 0; i < queues.length; i++) {
+                starts[i + 1] = starts[i] + queues[i].size();
+            }
+        }
+
+        void get(long index, long[] out) {
+            int q = 0;
+            while (index >= starts[q + 1]) q++;
+            queues[q].get(index - starts[q], out, 0);
+        }
+    }
+
+    private static final class Worker implements Callable<Void> {
+        private final MoveGenerator generator;
+        private final int players;
+        private final int pieces;
+        private final OffHeapStateSet visited;
+        private final LongAdder terminal;
+        private final long[] key;
+        private final long[] childKey;
+        private Frontier source;
+        private AtomicLong cursor;
+        private long end;
+        private OffHeapKeyQueue out;
+
+        Worker(MoveGenerator generator, int players, int pieces, OffHeapStateSet visited, LongAdder terminal) {
+            this.generator = generator;
+            this.players = players;
+            this.pieces = pieces;
+            this.visited = visited;
+            this.terminal = terminal;
+            int words = visited.getKeyWords();
+            this.key = new long[words];
+            this.childKey = new long[words];
+        }
+
+        void prepare(Frontier source, AtomicLong cursor, long end, OffHeapKeyQueue out) {
+            this.source = source;
+            this.cursor = cursor;
+            this.end = end;
+            this.out = out;
+        }
+
+        @Override
+        public Void call() {
+            long from;
+            while ((from = cursor.getAndAdd(CLAIM)) < end) {
+                long to = Math.min(end, from + CLAIM);
+                for (long i = from; i < to; i++) {
+                    expand(i);
+                }
+            }
+            return null;
+        }
+
+        private void expand(long index) {
+            source.get(index, key);
+            GameState state = GameState.unpack(players, pieces, key, 0);
+            if (state.getWinner() >= 0) {
+                terminal.increment();
+                return;
+            }
+            for (YutThrowResult t : THROWS) {
+                List<MoveGenerator.Move> moves = generator.generate(state, t);
+                if (moves.isEmpty()) {
+                    visit(generator.pass(state));
+                } else {
+                    for (MoveGenerator.Move move : moves) {
+                        visit(move.getResult());
+                    }
+                }
+            }
+        }
+
+        private void visit(GameState child) {
+            child.pack(childKey, 0);
+            if (visited.addConcurrent(child.hash(), childKey, 0)) out.add(childKey, 0);
+        }
+    }
+
+    /**
+     * 판 모양별, 말 수별 상태 수 표를 출력한다.
+     * 사용법: StateSpace [--shape=traditional|pentagon|hexagon|all] [--players=2] [--max-pieces=1]
+     *                   [--threads=코어 수] [--levels]
+     * 큰 설정은 -XX:MaxDirectMemorySize 를 함께 지정한다.
+     */
+    public static void main(String[] args) {
+        BoardShape[] shapes = BoardShape.values();
+        int players = 2;
+        int maxPieces = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean printLevels = false;
+        try {
+            for (String arg : args) {
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (arg.startsWith("--shape=")) {
+                    shapes = value.equalsIgnoreCase("all") ? BoardShape.values()
+                            : new BoardShape[]{BoardShape.fromName(value)};
+                } else if (arg.startsWith("--players=")) players = Integer.parseInt(value);
+                else if (arg.startsWith("--max-pieces=")) maxPieces = Integer.parseInt(value);
+                else if (arg.startsWith("--threads=")) threads = Integer.parseInt(value);
+                else if (arg.equals("--levels")) printLevels = true;
+                else throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            GameState.initial(players, maxPieces); // 범위 확인
+            if (threads <= 0) throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다: " + threads);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: StateSpace [--shape=traditional|pentagon|hexagon|all] [--players=N] [--max-pieces=N] [--threads=N] [--levels]");
+            System.exit(2);
+            return;
+        }
+
+        for (BoardShape shape : shapes) {
+            for (int pieces = 1; pieces <= maxPieces; pieces++) {
+                Result result = enumerate(shape, players, pieces, threads);
+                System.out.println(result);
+                if (printLevels) {
+                    long[] levels = result.getLevels();
+                    for (int d = 0; d < levels.length; d++) {
+                        System.out.printf("  %3d %d%n", d, levels[d]);
+                    }
+                }
+            }
+        }
+    }
+}
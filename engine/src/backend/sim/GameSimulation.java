@@ -0,0 +1,155 @@
+package backend.sim;
+
+import backend.controller.GameController;
+import backend.controller.YutGameUIInterface;
+import backend.game.Game;
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 화면 없이 GameController로 게임 한 판을 끝까지 진행하는 시뮬레이터.
+ * 윷/모가 나오면 먼저 더 던지고, 나온 윷은 판 위에서 가장 앞선 말(없으면 대기 말)에 차례로 적용한다.
+ */
+public final class GameSimulation implements YutGameUIInterface {
+    // 규칙상 끝나지 않는 상황에 대비한 행동 수 상한
+    private static final int MAX_ACTIONS = 20_000;
+
+    private final GameController controller;
+    private boolean finished;
+    private int actions;
+    private int winnerIndex;
+
+    public GameSimulation(BoardShape shape) {
+        this.controller = new GameController(this, shape);
+    }
+
+    /** 시드를 고정한 난수로 던지는 시뮬레이터 (같은 random 상태면 같은 게임이 진행됨) */
+    public GameSimulation(BoardShape shape, Random random) {
+        this(shape);
+        controller.setThrowRandom(random);
+    }
+
+    /**
+     * 한 판을 진행한다.
+     * @return 게임이 끝날 때까지 실행한 행동(던지기, 말 이동, 턴 넘기기) 수
+     */
+    public int play(int playerCount, int pieceCount) {
+        finished = false;
+        actions = 0;
+        winnerIndex = -1;
+        controller.initializeGame(playerCount, pieceCount);
+        Game game = controller.getGame();
+
+        while (!finished && actions < MAX_ACTIONS) {
+            List<YutThrowResult> throwsLeft = controller.getCurrentAvailableThrows();
+            YutThrowResult last = throwsLeft.isEmpty() ? null : throwsLeft.get(throwsLeft.size() - 1);
+            actions++;
+            if (last == null || last == YutThrowResult.YUT || last == YutThrowResult.MO) {
+                controller.handleThrowRequest(true);
+            } else if (!applyAny(game, throwsLeft)) {
+                controller.playerEndsTurnActions();
+            }
+        }
+        return actions;
+    }
+
+    /** 마지막 판의 승자 번호 (0부터, 행동 수 상한에 걸려 끝나지 않았으면 -1) */
+    public int getWinnerIndex() {
+        return winnerIndex;
+    }
+
+    // 적용할 수 있는 첫 번째 (윷, 말) 조합을 적용
+    private boolean applyAny(Game game, List<YutThrowResult> throwsLeft) {
+        for (YutThrowResult result : throwsLeft) {
+            Piece piece = choosePiece(game, result);
+            if (piece != null) {
+                controller.applySelectedYutAndPiece(result, piece);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Piece choosePiece(Game game, YutThrowResult result) {
+        Piece waiting = null;
+        for (Piece p : game.getCurrentPlayer().getPieces()) {
+            if (p.isFinished()) continue;
+            if (p.getPosition() != Position.OFFBOARD) return p;
+            if (waiting == null) waiting = p;
+        }
+        return result.getMove() < 0 ? null : waiting;
+    }
+
+    @Override
+    public void showWinMessage(String playerName) {
+        finished = true;
+        for (Player player : controller.getGame().getPlayers()) {
+            if (player.getName().equals(playerName)) winnerIndex = player.getIndex();
+        }
+    }
+
+    // 나머지 UI 콜백은 모두 무시
+
+    @Override
+    public void setController(GameController controller) {
+    }
+
+    @Override
+    public void setGameModel(Game game) {
+    }
+
+    @Override
+    public void logMessage(String message) {
+    }
+
+    @Override
+    public void updateStatusLabel(String status) {
+    }
+
+    @Override
+    public void updateIndicators() {
+    }
+
+    @Override
+    public void refreshBoard() {
+    }
+
+    @Override
+    public void refreshBoard(List<Position> changedPositions) {
+    }
+
+    @Override
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+    }
+
+    @Override
+    public void enableThrowButtons(boolean enable) {
+    }
+
+    @Override
+    public void showActionPanel(boolean show, List<YutThrowResult> availableThrows, List<Piece> movablePieces) {
+    }
+
+    @Override
+    public YutThrowResult promptForDesignatedThrow() {
+        return null;
+    }
+
+    @Override
+    public void promptForGameSetup() {
+    }
+
+    @Override
+    public void showInfo(String message) {
+    }
+
+    @Override
+    public void showError(String message) {
+    }
+}
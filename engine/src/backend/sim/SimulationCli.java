@@ -0,0 +1,143 @@
+package backend.sim;
+
+import backend.model.BoardShape;
+
+import java.util.Random;
+
+/**
+ * 화면 없이 여러 판을 돌리고 집계 결과를 출력하는 명령줄 도구.
+ * 리플렉션, 동적 클래스 로딩을 쓰지 않으므로 GraalVM native-image로 그대로 빌드된다.
+ *
+ * 사용법: SimulationCli [--shape=traditional|pentagon|hexagon] [--games=N] [--seed=S]
+ *                       [--players=2~4] [--pieces=2~5]
+ * 빌드 예: native-image -cp out --no-fallback -o yutnori-sim backend.sim.SimulationCli
+ */
+public final class SimulationCli {
+
+    private SimulationCli() {
+    }
+
+    public static void main(String[] args) {
+        BoardShape shape = BoardShape.TRADITIONAL;
+        int games = 1000;
+        long seed = 1L;
+        int players = 2;
+        int pieces = 4;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--shape=")) shape = BoardShape.fromName(value(arg));
+                else if (arg.startsWith("--games=")) games = Integer.parseInt(value(arg));
+                else if (arg.startsWith("--seed=")) seed = Long.parseLong(value(arg));
+                else if (arg.startsWith("--players=")) players = Integer.parseInt(value(arg));
+                else if (arg.startsWith("--pieces=")) pieces = Integer.parseInt(value(arg));
+                else throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            if (games <= 0) throw new IllegalArgumentException("판 수는 1 이상이어야 합니다: " + games);
+            if (players < 2 || players > 4) throw new IllegalArgumentException("참가자 수는 2~4입니다: " + players);
+            if (pieces < 2 || pieces > 5) throw new IllegalArgumentException("말 수는 2~5입니다: " + pieces);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: SimulationCli [--shape=traditional|pentagon|hexagon] [--games=N] [--seed=S] [--players=2~4] [--pieces=2~5]");
+            System.exit(2);
+            return;
+        }
+
+        System.out.println(run(shape, games, seed, players, pieces));
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    /** games 판을 순서대로 진행하고 집계 결과를 돌려준다. 같은 인자면 같은 결과가 나온다. */
+    public static Summary run(BoardShape shape, int games, long seed, int players, int pieces) {
+        GameSimulation simulation = new GameSimulation(shape, new Random(seed));
+        Summary summary = new Summary(shape, seed, players, pieces);
+        long started = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            long gameStart = System.nanoTime();
+            int actions = simulation.play(players, pieces);
+            summary.add(System.nanoTime() - gameStart, actions, simulation.getWinnerIndex());
+        }
+        summary.totalNanos = System.nanoTime() - started;
+        return summary;
+    }
+
+    /** 여러 판의 집계 결과 */
+    public static final class Summary {
+        private final BoardShape shape;
+        private final long seed;
+        private final int players;
+        private final int pieces;
+        private final long[] wins;
+        private int games;
+        private int unfinished;
+        private long actions;
+        private long minNanos = Long.MAX_VALUE;
+        private long maxNanos;
+        private long totalNanos;
+
+        Summary(BoardShape shape, long seed, int players, int pieces) {
+            this.shape = shape;
+            this.seed = seed;
+            this.players = players;
+            this.pieces = pieces;
+            this.wins = new long[players];
+        }
+
+        void add(long nanos, int gameActions, int winner) {
+            games++;
+            actions += gameActions;
+            minNanos = Math.min(minNanos, nanos);
+            maxNanos = Math.max(maxNanos, nanos);
+            if (winner >= 0) wins[winner]++;
+            else unfinished++;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        public long getWins(int playerIndex) {
+            return wins[playerIndex];
+        }
+
+        public int getUnfinished() {
+            return unfinished;
+        }
+
+        public double getMeanActions() {
+            return games == 0 ? 0 : (double) actions / games;
+        }
+
+        public double getTotalMillis() {
+            return totalNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("shape=").append(shape)
+              .append(" players=").append(players)
+              .append(" pieces=").append(pieces)
+              .append(" seed=").append(seed)
+              .append(" games=").append(games).append('\n');
+            sb.append("total ").append(millis(totalNanos)).append(" ms")
+              .append(", per game mean ").append(millis(games == 0 ? 0 : totalNanos / games)).append(" ms")
+              .append(", min ").append(millis(games == 0 ? 0 : minNanos)).append(" ms")
+              .append(", max ").append(millis(maxNanos)).append(" ms").append('\n');
+            sb.append("actions per game ").append(String.format("%.1f", getMeanActions()));
+            if (unfinished > 0) sb.append(", unfinished ").append(unfinished);
+            sb.append('\n');
+            sb.append("wins");
+            for (int i = 0; i < players; i++) {
+                sb.append(" P").append(i + 1).append('=').append(wins[i]);
+            }
+            return sb.toString();
+        }
+
+        private static String millis(long nanos) {
+            return String.format("%.3f", nanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * 윷놀이 규칙 엔진 (모델, 게임 진행, 컨트롤러, 지표).
+ * UI 툴킷 없이 java.base만으로 동작하므로 서버나 시뮬레이터는 이 모듈만 jlink로 묶으면 된다.
+ * 예: jlink --module-path out --add-modules yutnori.engine --output engine-runtime
+ * JFR 이벤트는 jdk.jfr이 런타임에 있을 때만 기록한다. (JfrSupport 참고)
+ * 이벤트 클래스(backend.metrics.jfr)는 내보내지 않으며 엔진 안에서만 JfrSupport를 통해 쓴다.
+ */
+module yutnori.engine {
+	requires static jdk.jfr;
+	exports backend.controller;
+	exports backend.game;
+	exports backend.model;
+	exports backend.search;
+	exports backend.sim;
+	exports backend.metrics;
+}
@@ -2,9 +2,15 @@ package frontend;
 
 import backend.model.Board;
 import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Player;
 import backend.model.Position;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -14,7 +20,15 @@ import java.util.Map;
 public abstract class AbstractBoardPanel<PointType> implements BoardPanelInterface {
     protected final Board board;
     protected final Map<Position, PointType> coords = new HashMap<>();
+    // 현재 컴포넌트 크기로 변환된 좌표 {x0, y0, x1, y1, ...} (Position.ordinal() 인덱스, 없는 위치는 NaN)
+    protected final double[] layout = new double[2 * BoardGeometry.POSITION_COUNT];
     protected BoardShape boardShape = BoardShape.TRADITIONAL;
+    protected final PieceAnimation animation = new PieceAnimation();
+    // 칸별 잡힐 확률 (Position.ordinal() 인덱스), null이면 표시하지 않음
+    protected double[] riskOverlay;
+    private BoardShape layoutShape;
+    private double layoutWidth = -1;
+    private double layoutHeight = -1;
     
     public AbstractBoardPanel(Board board) {
         this.board = board;
@@ -32,230 +46,92 @@ public abstract class AbstractBoardPanel<PointType> implements BoardPanelInterfa
         return this.boardShape;
     }
     
+    /**
+     * 미리 계산된 단위 좌표를 현재 컴포넌트 크기로 변환합니다.
+     * 크기와 보드 모양이 이전과 같으면 아무것도 하지 않습니다.
+     */
     @Override
     public void initializeCoords() {
-        coords.clear();
-        
-        switch (boardShape) {
-            case TRADITIONAL:
-                initializeTraditionalCoords();
-                break;
-            case PENTAGON:
-                initializePentagonCoords();
-                break;
-            case HEXAGON:
-                initializeHexagonCoords();
-                break;
-        }
-    }
-    
-    // 추상 메서드들 - 각 구현체에서 정의
-    protected abstract void initializeTraditionalCoords();
-    protected abstract void initializePentagonCoords();
-    protected abstract void initializeHexagonCoords();
-    protected abstract PointType createPoint(double x, double y);
-    protected abstract PointType midpoint(PointType a, PointType b);
-    protected abstract PointType lerp(PointType a, PointType b, double t);
-    protected abstract double getComponentWidth();
-    protected abstract double getComponentHeight();
-    
-    // 공통 유틸리티 메서드들
-    protected void calculateTraditionalLayout() {
-        double width = getComponentWidth() > 0 ? getComponentWidth() : 650;
-        double height = getComponentHeight() > 0 ? getComponentHeight() : 650;
-        
-        double margin = Math.min(width, height) / 10;
-        double gridSize = Math.min(width - 2 * margin, height - 2 * margin) / 5;
-        
-        // 6×6 격자 생성
-        PointType[][] grid = createGrid(6, 6, margin, gridSize);
-        
-        // 외곽 20칸 배치
-        setOuterPositions(grid);
-        
-        // 중앙 위치 설정
-        PointType center = midpoint(grid[2][2], grid[3][3]);
-        coords.put(Position.CENTER, center);
-        
-        // 대각선 경로 설정
-        setDiagonalPaths(center);
-    }
-    
-    protected void calculatePentagonLayout() {
-        double width = getComponentWidth() > 0 ? getComponentWidth() : 650;
-        double height = getComponentHeight() > 0 ? getComponentHeight() : 650;
-        double centerX = width / 2;
-        double centerY = height / 2;
-        
-        double margin = Math.min(width, height) / 10;
-        double radius = Math.min(width, height) / 2 - margin;
-        double angleStep = 2 * Math.PI / 5;
-        
-        // 외곽 25개 노드 배치
-        setNodesOnPolygon(25, 5, centerX, centerY, radius, angleStep);
-        
-        // 중앙과 대각선 경로 설정
-        PointType center = createPoint(centerX, centerY);
-        coords.put(Position.CENTER, center);
-        setPentagonDiagonalPaths(center);
-    }
-    
-    protected void calculateHexagonLayout() {
         double width = getComponentWidth() > 0 ? getComponentWidth() : 650;
         double height = getComponentHeight() > 0 ? getComponentHeight() : 650;
-        double centerX = width / 2;
-        double centerY = height / 2;
-        
-        double margin = Math.min(width, height) / 10;
-        double radius = Math.min(width, height) / 2 - margin;
-        double angleStep = 2 * Math.PI / 6;
-        
-        // 외곽 30개 노드 배치
-        setNodesOnPolygon(30, 6, centerX, centerY, radius, angleStep);
+        if (layoutShape == boardShape && layoutWidth == width && layoutHeight == height) {
+            return;
+        }
+        layoutShape = boardShape;
+        layoutWidth = width;
+        layoutHeight = height;
         
-        // 중앙과 대각선 경로 설정
-        PointType center = createPoint(centerX, centerY);
-        coords.put(Position.CENTER, center);
-        setHexagonDiagonalPaths(center);
-    }
-    
-    @SuppressWarnings("unchecked")
-    private PointType[][] createGrid(int rows, int cols, double margin, double gridSize) {
-        PointType[][] grid = (PointType[][]) new Object[rows][cols];
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = createPoint(margin + c * gridSize, margin + r * gridSize);
+        BoardGeometry.scale(boardShape, width, height, layout);
+        coords.clear();
+        for (Position pos : Position.values()) {
+            if (BoardGeometry.contains(layout, pos)) {
+                coords.put(pos, createPoint(layout[2 * pos.ordinal()], layout[2 * pos.ordinal() + 1]));
             }
         }
-        return grid;
     }
     
-    private void setOuterPositions(PointType[][] grid) {
-        coords.put(Position.POS_0,  grid[5][5]);
-        coords.put(Position.POS_1,  grid[4][5]);
-        coords.put(Position.POS_2,  grid[3][5]);
-        coords.put(Position.POS_3,  grid[2][5]);
-        coords.put(Position.POS_4,  grid[1][5]);
-        coords.put(Position.POS_5,  grid[0][5]);
-        coords.put(Position.POS_6,  grid[0][4]);
-        coords.put(Position.POS_7,  grid[0][3]);
-        coords.put(Position.POS_8,  grid[0][2]);
-        coords.put(Position.POS_9,  grid[0][1]);
-        coords.put(Position.POS_10, grid[0][0]);
-        coords.put(Position.POS_11, grid[1][0]);
-        coords.put(Position.POS_12, grid[2][0]);
-        coords.put(Position.POS_13, grid[3][0]);
-        coords.put(Position.POS_14, grid[4][0]);
-        coords.put(Position.POS_15, grid[5][0]);
-        coords.put(Position.POS_16, grid[5][1]);
-        coords.put(Position.POS_17, grid[5][2]);
-        coords.put(Position.POS_18, grid[5][3]);
-        coords.put(Position.POS_19, grid[5][4]);
+    /** 위험도 표시용 색 투명도 (0~255), 표시할 필요가 없으면 0 */
+    protected int riskAlpha(Position pos) {
+        return riskAlpha(riskOverlay, pos);
     }
     
-    private void setDiagonalPaths(PointType center) {
-        PointType p5 = coords.get(Position.POS_5);
-        PointType p15 = coords.get(Position.POS_15);
-        coords.put(Position.DIA_A1, lerp(p5, center, 1.0/3));
-        coords.put(Position.DIA_A2, lerp(p5, center, 2.0/3));
-        coords.put(Position.DIA_A3, lerp(center, p15, 1.0/3));
-        coords.put(Position.DIA_A4, lerp(center, p15, 2.0/3));
-
-        PointType p10 = coords.get(Position.POS_10);
-        PointType p0 = coords.get(Position.POS_0);
-        coords.put(Position.DIA_B1, lerp(p10, center, 1.0/3));
-        coords.put(Position.DIA_B2, lerp(p10, center, 2.0/3));
-        coords.put(Position.DIA_B3, lerp(center, p0, 1.0/3));
-        coords.put(Position.DIA_B4, lerp(center, p0, 2.0/3));
+    private static int riskAlpha(double[] risk, Position pos) {
+        if (risk == null) return 0;
+        double value = risk[pos.ordinal()];
+        return value < 0.005 ? 0 : (int) (40 + 160 * Math.min(1.0, value));
     }
     
-    private void setNodesOnPolygon(int totalNodes, int sides, 
-                                   double centerX, double centerY, 
-                                   double radius, double angleStep) {
-        int nodesPerSide = totalNodes / sides;
-        for (int i = 0; i < totalNodes; i++) {
-            int sideIndex = i / nodesPerSide;
-            double ratio = (i % nodesPerSide) / (double)nodesPerSide;
-            
-            double angle1 = sideIndex * angleStep;
-            double angle2 = (sideIndex + 1) * angleStep;
-            
-            double x1 = centerX + radius * Math.sin(angle1);
-            double y1 = centerY - radius * Math.cos(angle1);
-            double x2 = centerX + radius * Math.sin(angle2);
-            double y2 = centerY - radius * Math.cos(angle2);
-            
-            double x = x1 + ratio * (x2 - x1);
-            double y = y1 + ratio * (y2 - y1);
-            
-            Position pos = Position.valueOf("POS_" + i);
-            coords.put(pos, createPoint(x, y));
+    /**
+     * 위험도 배열을 바꾸고, 보이는 색이 달라진 노드들을 반환합니다.
+     * 꺼진 채로 그대로이거나 값이 같으면 빈 목록이므로 다시 그릴 것이 없습니다.
+     */
+    protected List<Position> replaceRiskOverlay(double[] next) {
+        double[] previous = riskOverlay;
+        if (previous == next || (previous != null && next != null && Arrays.equals(previous, next))) {
+            return Collections.emptyList();
         }
+        riskOverlay = next;
+        List<Position> changed = new ArrayList<>();
+        for (Position pos : coords.keySet()) {
+            if (riskAlpha(previous, pos) != riskAlpha(next, pos)) changed.add(pos);
+        }
+        return changed;
     }
     
-    private void setPentagonDiagonalPaths(PointType center) {
-        // 대각선 A: POS_5 -> CENTER -> POS_20
-        PointType p5 = coords.get(Position.POS_5);
-        PointType p20 = coords.get(Position.POS_20);
-        if (p5 != null && p20 != null) {
-            coords.put(Position.DIA_A1, lerp(p5, center, 1.0/3));
-            coords.put(Position.DIA_A2, lerp(p5, center, 2.0/3));
-            coords.put(Position.DIA_A3, lerp(center, p20, 1.0/3));
-            coords.put(Position.DIA_A4, lerp(center, p20, 2.0/3));
-        }
-        
-        // 대각선 B: POS_10 -> CENTER -> POS_0
-        PointType p10 = coords.get(Position.POS_10);
-        PointType p0 = coords.get(Position.POS_0);
-        if (p10 != null && p0 != null) {
-            coords.put(Position.DIA_B1, lerp(p10, center, 1.0/3));
-            coords.put(Position.DIA_B2, lerp(p10, center, 2.0/3));
-            coords.put(Position.DIA_B3, lerp(center, p0, 1.0/3));
-            coords.put(Position.DIA_B4, lerp(center, p0, 2.0/3));
+    /**
+     * list의 index번째 말이 같은 주인 말 묶음의 첫 번째이면 그 묶음의 말 수를, 아니면 0을 반환합니다.
+     * 애니메이션으로 이동 중인 말은 세지 않습니다.
+     */
+    protected int ownerStackSizeAt(List<Piece> list, int index) {
+        Piece piece = list.get(index);
+        if (animation.isMoving(piece)) return 0;
+        Player owner = piece.getOwner();
+        for (int j = 0; j < index; j++) {
+            Piece prev = list.get(j);
+            if (prev.getOwner() == owner && !animation.isMoving(prev)) return 0;
         }
-        
-        // 대각선 C: POS_15 -> CENTER -> POS_0
-        PointType p15 = coords.get(Position.POS_15);
-        if (p15 != null && p0 != null) {
-            coords.put(Position.DIA_C1, lerp(p15, center, 1.0/3));
-            coords.put(Position.DIA_C2, lerp(p15, center, 2.0/3));
-            coords.put(Position.DIA_C3, lerp(center, p0, 1.0/3));
-            coords.put(Position.DIA_C4, lerp(center, p0, 2.0/3));
+        int count = 1;
+        for (int j = index + 1; j < list.size(); j++) {
+            Piece next = list.get(j);
+            if (next.getOwner() == owner && !animation.isMoving(next)) count++;
         }
+        return count;
     }
     
-    private void setHexagonDiagonalPaths(PointType center) {
-        // 대각선 A: POS_5 -> CENTER -> POS_20
-        PointType p5 = coords.get(Position.POS_5);
-        PointType p20 = coords.get(Position.POS_20);
-        if (p5 != null && p20 != null) {
-            coords.put(Position.DIA_A1, lerp(p5, center, 1.0/3));
-            coords.put(Position.DIA_A2, lerp(p5, center, 2.0/3));
-            coords.put(Position.DIA_A3, lerp(center, p20, 1.0/3));
-            coords.put(Position.DIA_A4, lerp(center, p20, 2.0/3));
-        }
-        
-        // 대각선 B: POS_10 -> CENTER -> POS_25
-        PointType p10 = coords.get(Position.POS_10);
-        PointType p25 = coords.get(Position.POS_25);
-        if (p10 != null && p25 != null) {
-            coords.put(Position.DIA_B1, lerp(p10, center, 1.0/3));
-            coords.put(Position.DIA_B2, lerp(p10, center, 2.0/3));
-            coords.put(Position.DIA_B3, lerp(center, p25, 1.0/3));
-            coords.put(Position.DIA_B4, lerp(center, p25, 2.0/3));
-        }
-        
-        // 대각선 C: POS_15 -> CENTER -> POS_0
-        PointType p15 = coords.get(Position.POS_15);
-        PointType p0 = coords.get(Position.POS_0);
-        if (p15 != null && p0 != null) {
-            coords.put(Position.DIA_C1, lerp(p15, center, 1.0/3));
-            coords.put(Position.DIA_C2, lerp(p15, center, 2.0/3));
-            coords.put(Position.DIA_C3, lerp(center, p0, 1.0/3));
-            coords.put(Position.DIA_C4, lerp(center, p0, 2.0/3));
+    /** 한 위치에 그려질 말 묶음(그림) 수 */
+    protected int stackSlots(List<Piece> list) {
+        int slots = 0;
+        for (int i = 0; i < list.size(); i++) {
+            if (ownerStackSizeAt(list, i) > 0) slots++;
         }
+        return slots;
     }
     
+    // 추상 메서드들 - 각 구현체에서 정의
+    protected abstract PointType createPoint(double x, double y);
+    protected abstract double getComponentWidth();
+    protected abstract double getComponentHeight();
+    
     // 플레이어 색상 유틸리티
     public static class PlayerColors {
         public static final String PLAYER_1_COLOR = "#FF0000"; // RED
@@ -263,6 +139,13 @@ public abstract class AbstractBoardPanel<PointType> implements BoardPanelInterfa
         public static final String PLAYER_3_COLOR = "#00FF00"; // GREEN
         public static final String PLAYER_4_COLOR = "#FF00FF"; // MAGENTA
         public static final String DEFAULT_COLOR = "#808080";  // GRAY
+        private static final int[] PLAYER_RGB = {0xFF0000, 0x0000FF, 0x00FF00, 0xFF00FF};
+        private static final int DEFAULT_RGB = 0x808080;
+        
+        /** 플레이어 순번(0부터)에 해당하는 색상 (0xRRGGBB) */
+        public static int getColorRgb(int playerIndex) {
+            return playerIndex >= 0 && playerIndex < PLAYER_RGB.length ? PLAYER_RGB[playerIndex] : DEFAULT_RGB;
+        }
         
         public static String getColorHex(String playerName) {
             switch (playerName) {
@@ -274,9 +157,5 @@ public abstract class AbstractBoardPanel<PointType> implements BoardPanelInterfa
             }
         }
     }
-    
-    // 자식 클래스에서 사용할 수 있는 protected 메서드
-    protected String getPlayerColor(String playerName) {
-        return PlayerColors.getColorHex(playerName);
-    }
+
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package frontend;
+
+import backend.model.BoardShape;
+import backend.model.Position;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 보드 모양별 노드 좌표를 단위 정사각형(0~1) 기준으로 한 번만 계산해 두는 클래스.
+ * 좌표는 Position.ordinal() 로 인덱싱되는 평평한 double[] ({x0, y0, x1, y1, ...}) 이며,
+ * 해당 보드에 없는 위치는 NaN 으로 채워진다. Swing/JavaFX 보드 패널이 함께 사용한다.
+ */
+final class BoardGeometry {
+    static final int POSITION_COUNT = Position.values().length;
+
+    private static final Map<BoardShape, double[]> UNIT_COORDS = new EnumMap<>(BoardShape.class);
+
+    static {
+        for (BoardShape shape : BoardShape.values()) {
+            UNIT_COORDS.put(shape, computeUnitCoords(shape));
+        }
+    }
+
+    private BoardGeometry() {
+    }
+
+    /**
+     * 단위 좌표를 width×height 컴포넌트 크기에 맞게 변환하여 out 배열에 채운다.
+     * 짧은 변을 기준으로 확대하며, 다각형 보드는 컴포넌트 가운데에 배치한다.
+     */
+    static void scale(BoardShape shape, double width, double height, double[] out) {
+        double[] unit = UNIT_COORDS.get(shape);
+        double size = Math.min(width, height);
+        double offsetX = 0;
+        double offsetY = 0;
+        if (shape != BoardShape.TRADITIONAL) {
+            offsetX = (width - size) / 2;
+            offsetY = (height - size) / 2;
+        }
+        for (int i = 0; i < POSITION_COUNT; i++) {
+            out[2 * i] = offsetX + unit[2 * i] * size;
+            out[2 * i + 1] = offsetY + unit[2 * i + 1] * size;
+        }
+    }
+
+    /** 좌표 배열에 해당 위치가 존재하는지 여부 */
+    static boolean contains(double[] xy, Position pos) {
+        return !Double.isNaN(xy[2 * pos.ordinal()]);
+    }
+
+    private static double[] computeUnitCoords(BoardShape shape) {
+        double[] xy = new double[2 * POSITION_COUNT];
+        Arrays.fill(xy, Double.NaN);
+
+        switch (shape) {
+            case TRADITIONAL:
+                computeTraditional(xy);
+                break;
+            case PENTAGON:
+                computePolygon(xy, 25, 5);
+                setDiagonal(xy, Position.POS_5, Position.POS_20, Position.DIA_A1, Position.DIA_A2, Position.DIA_A3, Position.DIA_A4);
+                setDiagonal(xy, Position.POS_10, Position.POS_0, Position.DIA_B1, Position.DIA_B2, Position.DIA_B3, Position.DIA_B4);
+                setDiagonal(xy, Position.POS_15, Position.POS_0, Position.DIA_C1, Position.DIA_C2, Position.DIA_C3, Position.DIA_C4);
+                break;
+            case HEXAGON:
+                computePolygon(xy, 30, 6);
+                setDiagonal(xy, Position.POS_5, Position.POS_20, Position.DIA_A1, Position.DIA_A2, Position.DIA_A3, Position.DIA_A4);
+                setDiagonal(xy, Position.POS_10, Position.POS_25, Position.DIA_B1, Position.DIA_B2, Position.DIA_B3, Position.DIA_B4);
+                setDiagonal(xy, Position.POS_15, Position.POS_0, Position.DIA_C1, Position.DIA_C2, Position.DIA_C3, Position.DIA_C4);
+                break;
+        }
+        return xy;
+    }
+
+    // 6×6 격자의 테두리 20칸 (여백 1/10, 칸 간격 0.16)
+    private static void computeTraditional(double[] xy) {
+        double margin = 0.1;
+        double gridSize = (1 - 2 * margin) / 5;
+        // 외곽 칸 i의 격자 좌표 {row, col}
+        int[][] cells = {
+            {5, 5}, {4, 5}, {3, 5}, {2, 5}, {1, 5},
+            {0, 5}, {0, 4}, {0, 3}, {0, 2}, {0, 1},
+            {0, 0}, {1, 0}, {2, 0}, {3, 0}, {4, 0},
+            {5, 0}, {5, 1}, {5, 2}, {5, 3}, {5, 4}
+        };
+        for (int i = 0; i < cells.length; i++) {
+            put(xy, Position.outer(i), margin + cells[i][1] * gridSize, margin + cells[i][0] * gridSize);
+        }
+        double center = margin + 2.5 * gridSize;
+        put(xy, Position.CENTER, center, center);
+
+        setDiagonal(xy, Position.POS_5, Position.POS_15, Position.DIA_A1, Position.DIA_A2, Position.DIA_A3, Position.DIA_A4);
+        setDiagonal(xy, Position.POS_10, Position.POS_0, Position.DIA_B1, Position.DIA_B2, Position.DIA_B3, Position.DIA_B4);
+    }
+
+    // 정다각형 변 위에 외곽 노드를 균등 배치 (중심 0.5, 반지름 0.4)
+    private static void computePolygon(double[] xy, int totalNodes, int sides) {
+        double radius = 0.4;
+        double angleStep = 2 * Math.PI / sides;
+        int nodesPerSide = totalNodes / sides;
+        for (int i = 0; i < totalNodes; i++) {
+            int sideIndex = i / nodesPerSide;
+            double ratio = (i % nodesPerSide) / (double) nodesPerSide;
+
+            double angle1 = sideIndex * angleStep;
+            double angle2 = (sideIndex + 1) * angleStep;
+
+            double x1 = 0.5 + radius * Math.sin(angle1);
+            double y1 = 0.5 - radius * Math.cos(angle1);
+            double x2 = 0.5 + radius * Math.sin(angle2);
+            double y2 = 0.5 - radius * Math.cos(angle2);
+
+            put(xy, Position.outer(i), x1 + ratio * (x2 - x1), y1 + ratio * (y2 - y1));
+        }
+        put(xy, Position.CENTER, 0.5, 0.5);
+    }
+
+    // 입구 -> CENTER -> 출구 사이를 3등분하여 지름길 4칸 배치
+    private static void setDiagonal(double[] xy, Position entry, Position exit,
+                                    Position d1, Position d2, Position d3, Position d4) {
+        lerp(xy, d1, entry, Position.CENTER, 1.0 / 3);
+        lerp(xy, d2, entry, Position.CENTER, 2.0 / 3);
+        lerp(xy, d3, Position.CENTER, exit, 1.0 / 3);
+        lerp(xy, d4, Position.CENTER, exit, 2.0 / 3);
+    }
+
+    private static void lerp(double[] xy, Position target, Position a, Position b, double t) {
+        int ia = 2 * a.ordinal();
+        int ib = 2 * b.ordinal();
+        put(xy, target,
+            xy[ia] + (xy[ib] - xy[ia]) * t,
+            xy[ia + 1] + (xy[ib + 1] - xy[ia + 1]) * t);
+    }
+
+    private static void put(double[] xy, Position pos, double x, double y) {
+        xy[2 * pos.ordinal()] = x;
+        xy[2 * pos.ordinal() + 1] = y;
+    }
+}
@@ -1,6 +1,10 @@
 package frontend;
 
 import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.List;
 
 /**
  * 보드 패널의 공통 인터페이스
@@ -27,4 +31,17 @@ public interface BoardPanelInterface {
      * 보드 좌표를 초기화합니다.
      */
     void initializeCoords();
+
+    /**
+     * 말들이 경로를 따라 한 칸씩 이동하는 애니메이션을 재생합니다.
+     * @param pieces 함께 움직이는 말들 (모델에는 이미 도착지에 놓여 있음)
+     * @param travelPath 출발점부터 도착점까지 거쳐가는 위치들
+     */
+    void animateMove(List<Piece> pieces, List<Position> travelPath);
+
+    /**
+     * 칸마다 잡힐 확률을 보드 위에 겹쳐 그립니다.
+     * @param riskByPosition Position.ordinal() 순서의 0~1 확률, null이면 겹쳐 그리지 않음
+     */
+    void setRiskOverlay(double[] riskByPosition);
 }
\ No newline at end of file
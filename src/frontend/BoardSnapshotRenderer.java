@@ -0,0 +1,134 @@
+package frontend;
+
+import backend.model.Board;
+import backend.model.BoardShape;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 창을 띄우지 않고 보드 상태를 PNG 이미지로 저장하는 일괄 렌더러 (경기 리포트, 리플레이 썸네일용).
+ * SwingBoardPanel의 그리기 코드를 그대로 사용하며, 여러 스냅샷을 CPU 코어 수만큼 병렬로 처리한다.
+ * 서버 환경에서는 -Djava.awt.headless=true 로 실행한다.
+ */
+public final class BoardSnapshotRenderer {
+    public static final int DEFAULT_SIZE = 650;
+
+    private final int width;
+    private final int height;
+    private final int threads;
+
+    public BoardSnapshotRenderer() {
+        this(DEFAULT_SIZE, DEFAULT_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BoardSnapshotRenderer(int width, int height, int threads) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("이미지 크기는 0보다 커야 합니다: " + width + "x" + height);
+        }
+        if (threads <= 0) {
+            throw new IllegalArgumentException("스레드 수는 0보다 커야 합니다: " + threads);
+        }
+        this.width = width;
+        this.height = height;
+        this.threads = threads;
+    }
+
+    /**
+     * 저장할 보드 상태 하나.
+     * 렌더링 중에는 board를 변경하면 안 되며, 스냅샷마다 서로 다른 Board 객체를 사용해야 한다.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final Board board;
+        private final BoardShape shape;
+
+        public Snapshot(String name, Board board, BoardShape shape) {
+            this.name = name;
+            this.board = board;
+            this.shape = shape;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Board getBoard() {
+            return board;
+        }
+
+        public BoardShape getShape() {
+            return shape;
+        }
+    }
+
+    /** 보드 상태 하나를 이미지로 그린다. 어느 스레드에서든 호출할 수 있다. */
+    public BufferedImage render(Board board, BoardShape shape) {
+        SwingBoardPanel panel = new SwingBoardPanel(board);
+        panel.setBoardShape(shape);
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            panel.paintOffscreen(g2d, width, height);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * 스냅샷들을 병렬로 그려 outputDir/{name}.png 로 저장한다.
+     * @return 저장된 파일 경로 (snapshots와 같은 순서)
+     */
+    public List<Path> renderAll(List<Snapshot> snapshots, Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+
+        List<Callable<Path>> tasks = new ArrayList<>(snapshots.size());
+        for (Snapshot snapshot : snapshots) {
+            tasks.add(() -> write(snapshot, outputDir.resolve(snapshot.getName() + ".png")));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(1, tasks.size())), r -> {
+            Thread t = new Thread(r, "board-snapshot");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Path> written = new ArrayList<>(tasks.size());
+            for (Future<Path> future : executor.invokeAll(tasks)) {
+                written.add(future.get());
+            }
+            return written;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("스냅샷 렌더링이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException("스냅샷 렌더링 중 오류가 발생했습니다.", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Path write(Snapshot snapshot, Path file) throws IOException {
+        BufferedImage image = render(snapshot.getBoard(), snapshot.getShape());
+        if (!ImageIO.write(image, "png", file.toFile())) {
+            throw new IOException("PNG 저장 실패: " + file);
+        }
+        return file;
+    }
+}
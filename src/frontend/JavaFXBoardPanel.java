@@ -4,16 +4,54 @@ import backend.model.Board;
 import backend.model.BoardShape;
 import backend.model.Piece;
 import backend.model.Position;
+import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.geometry.Point2D;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
+    private static final int PIECE_SIZE = 30;
+    // 위험도 칠하기 색 (알파값마다 하나, 그릴 때마다 만들지 않음)
+    private static final Color[] RISK_COLORS = new Color[256];
+    static {
+        for (int alpha = 0; alpha < RISK_COLORS.length; alpha++) {
+            RISK_COLORS[alpha] = Color.rgb(220, 0, 0, alpha / 255.0);
+        }
+    }
+    // 다시 그려야 함을 표시하는 값 (말이 있는 위치와는 항상 다르게 비교됨)
+    private static final Piece[] STALE = new Piece[0];
+    
     private Pane pane;
-    private Canvas canvas;
+    // 정적인 보드 레이어 (크기나 보드 모양이 바뀔 때만 다시 그림)
+    private Canvas boardCanvas;
+    // 칸별 잡힐 확률 레이어 (setRiskOverlay나 보드 레이어가 바뀔 때만 다시 그림)
+    private Canvas riskCanvas;
+    // 말 레이어 (직전 프레임과 달라진 위치만 다시 그림)
+    private Canvas pieceCanvas;
+    // 이동 중인 말 레이어 (애니메이션 프레임마다 이전 위치만 지우고 다시 그림)
+    private Canvas animationCanvas;
+    private final AnimationTimer frameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onAnimationFrame(now);
+        }
+    };
+    private final JavaFXPieceSprites sprites = JavaFXPieceSprites.forSize(PIECE_SIZE);
+    private double overlayX;
+    private double overlayY;
+    private boolean overlayShown;
+    private BoardShape boardLayerShape;
+    private double boardLayerWidth = -1;
+    private double boardLayerHeight = -1;
+    // 직전 프레임에 각 위치(Position.ordinal())에 그려진 말 목록
+    private final Piece[][] drawnPieces = new Piece[Position.values().length][];
+    // 직전 프레임에 각 위치에 그려진 말 묶음(그림) 수
+    private final int[] drawnSlots = new int[Position.values().length];
     
     public JavaFXBoardPanel(Board board) {
         super(board);
@@ -22,17 +60,26 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         pane.setPrefSize(650, 650);
         pane.setStyle("-fx-background-color: white;");
         
-        canvas = new Canvas(650, 650);
-        pane.getChildren().add(canvas);
+        boardCanvas = new Canvas(650, 650);
+        riskCanvas = new Canvas(650, 650);
+        pieceCanvas = new Canvas(650, 650);
+        animationCanvas = new Canvas(650, 650);
+        pane.getChildren().addAll(boardCanvas, riskCanvas, pieceCanvas, animationCanvas);
         
         // 크기 변경 시 다시 그리기
         pane.widthProperty().addListener((obs, oldVal, newVal) -> {
-            canvas.setWidth(newVal.doubleValue());
+            boardCanvas.setWidth(newVal.doubleValue());
+            riskCanvas.setWidth(newVal.doubleValue());
+            pieceCanvas.setWidth(newVal.doubleValue());
+            animationCanvas.setWidth(newVal.doubleValue());
             initializeCoords();
             refresh();
         });
         pane.heightProperty().addListener((obs, oldVal, newVal) -> {
-            canvas.setHeight(newVal.doubleValue());
+            boardCanvas.setHeight(newVal.doubleValue());
+            riskCanvas.setHeight(newVal.doubleValue());
+            pieceCanvas.setHeight(newVal.doubleValue());
+            animationCanvas.setHeight(newVal.doubleValue());
             initializeCoords();
             refresh();
         });
@@ -47,43 +94,108 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
     
     @Override
     public void refresh() {
-        GraphicsContext gc = canvas.getGraphicsContext2D();
-        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-        drawBoard();
-        drawPieces();
+        double width = boardCanvas.getWidth();
+        double height = boardCanvas.getHeight();
+        if (boardLayerShape != boardShape || width != boardLayerWidth || height != boardLayerHeight) {
+            boardLayerShape = boardShape;
+            boardLayerWidth = width;
+            boardLayerHeight = height;
+            
+            GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, width, height);
+            drawBoard();
+            redrawRisk();
+            redrawAllPieces();
+        } else {
+            redrawChangedPieces();
+        }
     }
     
     @Override
-    protected void initializeTraditionalCoords() {
-        calculateTraditionalLayout();
+    public void setRiskOverlay(double[] riskByPosition) {
+        // 색이 바뀐 노드만 지우고 다시 칠함
+        GraphicsContext gc = riskCanvas.getGraphicsContext2D();
+        for (Position pos : replaceRiskOverlay(riskByPosition)) {
+            Point2D p = coords.get(pos);
+            gc.clearRect(p.getX() - 12, p.getY() - 12, 24, 24);
+            drawRiskAt(gc, pos);
+        }
     }
     
-    @Override
-    protected void initializePentagonCoords() {
-        calculatePentagonLayout();
+    // 보드 레이어가 바뀌면 (크기, 모양) 위험도 레이어 전체를 다시 그림
+    private void redrawRisk() {
+        GraphicsContext gc = riskCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, riskCanvas.getWidth(), riskCanvas.getHeight());
+        if (riskOverlay == null) return;
+        for (Position pos : coords.keySet()) {
+            drawRiskAt(gc, pos);
+        }
     }
     
-    @Override
-    protected void initializeHexagonCoords() {
-        calculateHexagonLayout();
+    // 잡힐 확률이 높을수록 진한 빨간색으로 노드 안쪽을 칠함
+    private void drawRiskAt(GraphicsContext gc, Position pos) {
+        int alpha = riskAlpha(pos);
+        if (alpha == 0) return;
+        Point2D p = coords.get(pos);
+        gc.setFill(RISK_COLORS[alpha]);
+        gc.fillOval(p.getX() - 11, p.getY() - 11, 22, 22);
     }
     
     @Override
-    protected Point2D createPoint(double x, double y) {
-        return new Point2D(x, y);
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+        // cancel 전에 읽어야 start 가 끊긴 이동으로 보고 재생 시간을 줄임
+        boolean interrupted = animation.isActive();
+        if (interrupted) {
+            // 이전 애니메이션을 끊고 바로 도착 상태로 그림
+            animation.cancel();
+            finishAnimation();
+        }
+        long now = System.nanoTime();
+        if (animation.start(pieces, travelPath, now, interrupted)) {
+            animation.update(now, layout);
+            drawMovingStack();
+            frameTimer.start();
+        } else {
+            frameTimer.stop();
+        }
     }
     
-    @Override
-    protected Point2D midpoint(Point2D a, Point2D b) {
-        return lerp(a, b, 0.5);
+    private void onAnimationFrame(long now) {
+        clearMovingStack();
+        if (animation.update(now, layout)) {
+            drawMovingStack();
+        } else {
+            frameTimer.stop();
+            finishAnimation();
+        }
+    }
+    
+    private void finishAnimation() {
+        clearMovingStack();
+        drawnPieces[animation.getDestination().ordinal()] = STALE;
+        refresh();
+    }
+    
+    private void drawMovingStack() {
+        GraphicsContext gc = animationCanvas.getGraphicsContext2D();
+        Piece[] moving = animation.getPieces();
+        overlayX = animation.getX();
+        overlayY = animation.getY();
+        overlayShown = true;
+        gc.drawImage(sprites.get(moving[0].getOwner().getIndex(), moving.length),
+            sprites.left(overlayX), sprites.top(overlayY));
+    }
+    
+    private void clearMovingStack() {
+        if (!overlayShown) return;
+        animationCanvas.getGraphicsContext2D().clearRect(
+            sprites.left(overlayX), sprites.top(overlayY), sprites.getWidth(), sprites.getHeight());
+        overlayShown = false;
     }
     
     @Override
-    protected Point2D lerp(Point2D a, Point2D b, double t) {
-        return new Point2D(
-            a.getX() + (b.getX() - a.getX()) * t,
-            a.getY() + (b.getY() - a.getY()) * t
-        );
+    protected Point2D createPoint(double x, double y) {
+        return new Point2D(x, y);
     }
     
     @Override
@@ -97,7 +209,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
     }
     
     private void drawBoard() {
-        GraphicsContext gc = canvas.getGraphicsContext2D();
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
         gc.setStroke(Color.BLACK);
         gc.setLineWidth(2.0);
         
@@ -118,29 +230,96 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         drawDirectionArrows(gc);
     }
     
-    private void drawPieces() {
+    private void redrawAllPieces() {
+        GraphicsContext gc = pieceCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, pieceCanvas.getWidth(), pieceCanvas.getHeight());
+        Arrays.fill(drawnPieces, null);
+        Arrays.fill(drawnSlots, 0);
         if (board == null) return;
         
-        GraphicsContext gc = canvas.getGraphicsContext2D();
         for (Position pos : coords.keySet()) {
-            List<Piece> pieces = board.getPiecesAt(pos);
-            if (pieces != null) {
-                for (int i = 0; i < pieces.size(); i++) {
-                    Piece piece = pieces.get(i);
-                    if (piece != null) {
-                        Point2D point = coords.get(pos);
-                        if (point != null) {
-                            gc.setFill(Color.valueOf(getPlayerColor(piece.getOwner().getName())));
-                            gc.fillOval(point.getX() - 15 + i * 12, point.getY() - 15, 30, 30);
-                            gc.setStroke(Color.BLACK);
-                            gc.strokeOval(point.getX() - 15 + i * 12, point.getY() - 15, 30, 30);
-                        }
-                    }
+            drawPiecesAt(gc, pos);
+        }
+    }
+    
+    private void redrawChangedPieces() {
+        if (board == null) return;
+        
+        // 1. 직전 프레임과 말 구성이 달라진 위치를 찾아 이전/현재 영역을 지움
+        List<Position> dirty = new ArrayList<>();
+        for (Position pos : coords.keySet()) {
+            if (!isSameAsDrawn(pos, board.getPiecesAt(pos))) {
+                dirty.add(pos);
+            }
+        }
+        if (dirty.isEmpty()) return;
+        
+        GraphicsContext gc = pieceCanvas.getGraphicsContext2D();
+        List<double[]> cleared = new ArrayList<>();
+        for (Position pos : dirty) {
+            int slots = Math.max(drawnSlots[pos.ordinal()], stackSlots(board.getPiecesAt(pos)));
+            double[] bounds = pieceBounds(coords.get(pos), slots);
+            gc.clearRect(bounds[0], bounds[1], bounds[2], bounds[3]);
+            cleared.add(bounds);
+        }
+        
+        // 2. 지워진 영역에 걸쳐 있는 위치의 말을 다시 그림 (겹쳐 있던 이웃 말 포함)
+        for (Position pos : coords.keySet()) {
+            double[] bounds = pieceBounds(coords.get(pos), stackSlots(board.getPiecesAt(pos)));
+            for (double[] c : cleared) {
+                if (intersects(bounds, c)) {
+                    drawPiecesAt(gc, pos);
+                    break;
                 }
             }
         }
     }
     
+    private void drawPiecesAt(GraphicsContext gc, Position pos) {
+        List<Piece> pieces = board.getPiecesAt(pos);
+        Point2D point = coords.get(pos);
+        drawnPieces[pos.ordinal()] = pieces.isEmpty() ? null : pieces.toArray(new Piece[0]);
+        if (point == null) return;
+        
+        // 같은 주인의 말 묶음마다 업힌 수 배지가 그려진 그림 한 장을 복사
+        int slot = 0;
+        for (int i = 0; i < pieces.size(); i++) {
+            int stack = ownerStackSizeAt(pieces, i);
+            if (stack == 0) continue; // 이동 중(애니메이션 레이어에 그림)이거나 이미 묶음에 포함된 말
+            gc.drawImage(sprites.get(pieces.get(i).getOwner().getIndex(), stack),
+                sprites.left(point.getX()) + slot * sprites.getWidth(), sprites.top(point.getY()));
+            slot++;
+        }
+        drawnSlots[pos.ordinal()] = slot;
+    }
+    
+    private boolean isSameAsDrawn(Position pos, List<Piece> current) {
+        Piece[] previous = drawnPieces[pos.ordinal()];
+        if (previous == null) return current.isEmpty();
+        if (previous.length != current.size()) return false;
+        for (int i = 0; i < previous.length; i++) {
+            if (previous[i] != current.get(i)) return false;
+        }
+        return true;
+    }
+    
+    // 위치에 말 묶음 slots개가 차지하는 영역 {x, y, w, h}
+    private double[] pieceBounds(Point2D point, int slots) {
+        if (point == null || slots == 0) return new double[] {0, 0, 0, 0};
+        return new double[] {
+            sprites.left(point.getX()),
+            sprites.top(point.getY()),
+            slots * sprites.getWidth(),
+            sprites.getHeight()
+        };
+    }
+    
+    private static boolean intersects(double[] a, double[] b) {
+        if (a[2] <= 0 || b[2] <= 0) return false;
+        return a[0] < b[0] + b[2] && b[0] < a[0] + a[2]
+            && a[1] < b[1] + b[3] && b[1] < a[1] + a[3];
+    }
+    
     private void drawTraditionalBoard(GraphicsContext gc) {
         // 사각형 윤곽선
         if (coords.containsKey(Position.POS_0) && coords.containsKey(Position.POS_10)) {
@@ -164,7 +343,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         double[] yPointsPent = new double[5];
         
         for (int i = 0; i < 5; i++) {
-            Position pos = Position.valueOf("POS_" + (i * 5)); // 각 꼭지점 (0, 5, 10, 15, 20)
+            Position pos = Position.outer(i * 5); // 각 꼭지점 (0, 5, 10, 15, 20)
             Point2D p = coords.get(pos);
             
             if (p != null) {
@@ -182,7 +361,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         double[] yPointsHex = new double[6];
         
         for (int i = 0; i < 6; i++) {
-            Position pos = Position.valueOf("POS_" + (i * 5)); // 각 꼭지점 (0, 5, 10, 15, 20, 25)
+            Position pos = Position.outer(i * 5); // 각 꼭지점 (0, 5, 10, 15, 20, 25)
             Point2D p = coords.get(pos);
             
             if (p != null) {
@@ -218,7 +397,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         // 외곽 경로
         Position[] outerPath = new Position[20];
         for (int i = 0; i < 20; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(gc, outerPath);
         
@@ -234,7 +413,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         // 외곽 경로
         Position[] outerPath = new Position[25];
         for (int i = 0; i < 25; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(gc, outerPath);
         
@@ -250,7 +429,7 @@ public class JavaFXBoardPanel extends AbstractBoardPanel<Point2D> {
         // 외곽 경로
         Position[] outerPath = new Position[30];
         for (int i = 0; i < 30; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(gc, outerPath);
         
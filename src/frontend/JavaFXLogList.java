@@ -0,0 +1,67 @@
+package frontend;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LogBuffer를 ListView에 연결하는 ObservableList.
+ * ListView는 보이는 셀만 만들어 그리므로 로그가 길어져도 화면 갱신 비용이 일정하다.
+ * 추가된 줄은 다음 펄스에 한 번의 변경 이벤트로 모아서 반영하고 마지막 줄로 스크롤한다.
+ */
+class JavaFXLogList extends ObservableListBase<String> {
+    private final LogBuffer buffer = new LogBuffer(LogBuffer.DEFAULT_CAPACITY);
+    private ListView<String> view;
+
+    void setView(ListView<String> view) {
+        this.view = view;
+    }
+
+    /** 어느 스레드에서든 호출 가능 */
+    void append(String line) {
+        if (buffer.offer(line)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    private void flush() {
+        List<String> evicted = new ArrayList<>();
+        int added = buffer.flush(evicted);
+        if (added == 0) return;
+
+        int size = buffer.size();
+        beginChange();
+        if (!evicted.isEmpty()) {
+            nextRemove(0, evicted);
+        }
+        nextAdd(size - added, size);
+        endChange();
+        if (view != null) {
+            view.scrollTo(size - 1);
+        }
+    }
+
+    @Override
+    public void clear() {
+        List<String> removed = new ArrayList<>(this);
+        buffer.clear();
+        if (!removed.isEmpty()) {
+            beginChange();
+            nextRemove(0, removed);
+            endChange();
+        }
+    }
+
+    @Override
+    public String get(int index) {
+        return buffer.get(index);
+    }
+
+    @Override
+    public int size() {
+        return buffer.size();
+    }
+}
@@ -0,0 +1,65 @@
+package frontend;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JavaFX용 말 그림 캐시 (FX 애플리케이션 스레드에서만 사용)
+ */
+final class JavaFXPieceSprites extends PieceSpriteCache<Image> {
+    private static final Map<Integer, JavaFXPieceSprites> BY_SIZE = new HashMap<>();
+    private static final double STROKE = 1.5;
+
+    private JavaFXPieceSprites(int pieceSize) {
+        super(pieceSize);
+    }
+
+    /** 말 크기별로 하나씩 공유되는 캐시 */
+    static JavaFXPieceSprites forSize(int pieceSize) {
+        return BY_SIZE.computeIfAbsent(pieceSize, JavaFXPieceSprites::new);
+    }
+
+    @Override
+    protected Image render(int rgb, int stackCount) {
+        Canvas canvas = new Canvas(getWidth(), getHeight());
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double d = getPieceSize();
+        double b = getBadgeSize();
+        double inset = STROKE / 2;
+
+        gc.setFill(Color.rgb((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF));
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(STROKE);
+        gc.fillOval(PAD, PAD + (int) b / 2, d, d);
+        gc.strokeOval(PAD + inset, PAD + (int) b / 2 + inset, d - STROKE, d - STROKE);
+
+        if (stackCount > 1) {
+            // 업힌 말 수 배지
+            double bx = PAD + d - (int) b / 2;
+            gc.setFill(Color.WHITE);
+            gc.fillOval(bx, PAD, b, b);
+            gc.setLineWidth(1.0);
+            gc.strokeOval(bx + 0.5, PAD + 0.5, b - 1, b - 1);
+
+            gc.setFill(Color.BLACK);
+            gc.setFont(Font.font("System", FontWeight.BOLD, b * 0.7));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.fillText(String.valueOf(stackCount), bx + b / 2, PAD + b / 2);
+        }
+
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(params, null);
+    }
+}
@@ -0,0 +1,97 @@
+package frontend;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 로그를 고정 크기 링 버퍼에 보관하는 클래스.
+ * 어느 스레드에서든 offer()로 줄을 추가할 수 있으며, 추가된 줄은 대기열에 모였다가
+ * UI 스레드가 프레임마다 한 번 flush()할 때 한꺼번에 반영된다.
+ * 용량을 넘으면 가장 오래된 줄부터 버려지므로 긴 세션에서도 메모리가 늘어나지 않는다.
+ */
+final class LogBuffer {
+    static final int DEFAULT_CAPACITY = 1000;
+
+    // UI 스레드 전용 링 버퍼
+    private final String[] lines;
+    private int head;
+    private int size;
+    private int lastEvicted;
+
+    // 다른 스레드에서 들어온 줄의 대기열 (역시 고정 크기 링 버퍼)
+    private final String[] pending;
+    private int pendingHead;
+    private int pendingSize;
+
+    LogBuffer(int capacity) {
+        this.lines = new String[capacity];
+        this.pending = new String[capacity];
+    }
+
+    /**
+     * 줄을 대기열에 추가한다.
+     * @return 대기열이 비어 있다가 처음 채워졌으면 true (호출자가 flush를 예약해야 함)
+     */
+    synchronized boolean offer(String line) {
+        int capacity = pending.length;
+        if (pendingSize == capacity) {
+            // 화면에 반영되기도 전에 밀려날 줄은 버림
+            pending[pendingHead] = null;
+            pendingHead = (pendingHead + 1) % capacity;
+            pendingSize--;
+        }
+        pending[(pendingHead + pendingSize) % capacity] = line;
+        pendingSize++;
+        return pendingSize == 1;
+    }
+
+    /**
+     * 대기 중인 줄을 링 버퍼에 반영한다. UI 스레드에서만 호출한다.
+     * @param evicted 밀려난 오래된 줄을 담을 리스트 (필요 없으면 null)
+     * @return 새로 추가된 줄 수
+     */
+    synchronized int flush(List<String> evicted) {
+        int capacity = lines.length;
+        int added = pendingSize;
+        lastEvicted = 0;
+        for (int i = 0; i < added; i++) {
+            int p = (pendingHead + i) % capacity;
+            if (size == capacity) {
+                if (evicted != null) evicted.add(lines[head]);
+                head = (head + 1) % capacity;
+                size--;
+                lastEvicted++;
+            }
+            lines[(head + size) % capacity] = pending[p];
+            size++;
+            pending[p] = null;
+        }
+        pendingHead = 0;
+        pendingSize = 0;
+        return added;
+    }
+
+    /** 직전 flush()에서 밀려난 줄 수 */
+    int getLastEvicted() {
+        return lastEvicted;
+    }
+
+    /** index번째 줄 (0이 가장 오래된 줄) */
+    String get(int index) {
+        return lines[(head + index) % lines.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** 반영된 줄과 대기 중인 줄을 모두 지운다. */
+    synchronized void clear() {
+        Arrays.fill(lines, null);
+        Arrays.fill(pending, null);
+        head = 0;
+        size = 0;
+        pendingHead = 0;
+        pendingSize = 0;
+    }
+}
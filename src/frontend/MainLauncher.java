@@ -1,10 +1,124 @@
 package frontend;
 
+import frontend.jmx.MetricsJmx;
 import javafx.application.Application;
 import javax.swing.SwingUtilities;
 
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 실행 진입점. 선택한 UI 툴킷(Swing 또는 JavaFX) 하나만 불러온다.
+ *
+ * 툴킷 선택 순서:
+ *  1. 인자 --ui=swing 또는 --ui=javafx
+ *  2. 시스템 속성 -Dyutnori.ui=swing|javafx
+ *  3. ~/.yutnori/launcher.properties 의 ui 항목
+ *  4. 없으면 선택 다이얼로그 (Swing)
+ *
+ * 시작 시간은 [startup] 줄로 출력된다. AppCDS 아카이브를 쓰려면 먼저 한 번 만들어 둔다:
+ *   java -XX:ArchiveClassesAtExit=yutnori.jsa ... frontend.MainLauncher --ui=swing --exit-after-first-frame
+ *   java -XX:SharedArchiveFile=yutnori.jsa ... frontend.MainLauncher --ui=swing
+ */
 public class MainLauncher {
+    static final String SWING = "swing";
+    static final String JAVAFX = "javafx";
+    private static final String UI_OPTION = "--ui=";
+    private static final String EXIT_OPTION = "--exit-after-first-frame";
+
     public static void main(String[] args) {
+        StartupTimeline.mainStarted();
+
+        List<String> uiArgs = new ArrayList<>();
+        String toolkit = null;
+        for (String arg : args) {
+            if (arg.startsWith(UI_OPTION)) toolkit = arg.substring(UI_OPTION.length());
+            else if (arg.equals(EXIT_OPTION)) StartupTimeline.setExitAfterFirstFrame(true);
+            else uiArgs.add(arg);
+        }
+        if (toolkit == null) toolkit = System.getProperty("yutnori.ui");
+        if (toolkit == null) toolkit = readConfiguredToolkit();
+        if (toolkit == null) toolkit = promptForToolkit();
+        if (toolkit == null) return; // 다이얼로그를 닫음
+
+        // 게임 진행 지표를 JMX로 노출 (jconsole 등에서 yutnori 도메인으로 조회)
+        // java.management 로딩이 첫 화면을 늦추지 않도록 별도 스레드에서 등록
+        Thread jmx = new Thread(MetricsJmx::register, "metrics-jmx");
+        jmx.setDaemon(true);
+        jmx.start();
+
+        switch (toolkit.toLowerCase()) {
+            case SWING:
+                launchSwing();
+                break;
+            case JAVAFX:
+                launchJavaFX(uiArgs.toArray(new String[0]));
+                break;
+            default:
+                System.err.println("알 수 없는 UI: " + toolkit + " (swing 또는 javafx)");
+        }
+    }
+
+    private static void launchSwing() {
+        loadUiClass("frontend.YutGameUI");
+        SwingUtilities.invokeLater(() -> {
+            StartupTimeline.toolkitReady();
+            YutGameUI ui = new YutGameUI();
+            ui.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowOpened(WindowEvent e) {
+                    StartupTimeline.firstFrame();
+                }
+            });
+            ui.promptForGameSetup();
+        });
+    }
+
+    private static void launchJavaFX(String[] args) {
+        loadUiClass("frontend.YutGameJavaFXUI");
+        try {
+            // 툴킷 준비와 첫 화면 시점은 YutGameJavaFXUI.start 에서 기록
+            Application.launch(YutGameJavaFXUI.class, args);
+        } catch (Exception e) {
+            e.printStackTrace();
+            javax.swing.JOptionPane.showMessageDialog(null,
+                "JavaFX 초기화 중 오류가 발생했습니다: " + e.getMessage(),
+                "오류",
+                javax.swing.JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // UI 클래스와 툴킷 클래스를 초기화 없이 미리 로드해 클래스 로딩 시간을 따로 잰다
+    private static void loadUiClass(String name) {
+        try {
+            Class.forName(name, false, MainLauncher.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("UI 클래스를 찾을 수 없습니다: " + name, e);
+        }
+        StartupTimeline.classesLoaded();
+    }
+
+    private static String readConfiguredToolkit() {
+        Path config = Path.of(System.getProperty("user.home"), ".yutnori", "launcher.properties");
+        if (!Files.isRegularFile(config)) return null;
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(config)) {
+            props.load(in);
+        } catch (IOException e) {
+            System.err.println("설정 파일을 읽지 못했습니다: " + config + " (" + e.getMessage() + ")");
+            return null;
+        }
+        return props.getProperty("ui");
+    }
+
+    private static String promptForToolkit() {
         // UI 선택 다이얼로그 표시
         String[] options = {"Swing UI", "JavaFX UI"};
         int choice = javax.swing.JOptionPane.showOptionDialog(
@@ -17,24 +131,8 @@ public class MainLauncher {
             options,
             options[0]
         );
-
-        if (choice == 0) {
-            // Swing UI 실행
-            SwingUtilities.invokeLater(() -> {
-                YutGameUI ui = new YutGameUI();
-                ui.promptForGameSetup();
-            });
-        } else if (choice == 1) {
-            // JavaFX UI 실행
-            try {
-                Application.launch(YutGameJavaFXUI.class, args);
-            } catch (Exception e) {
-                e.printStackTrace();
-                javax.swing.JOptionPane.showMessageDialog(null, 
-                    "JavaFX 초기화 중 오류가 발생했습니다: " + e.getMessage(),
-                    "오류",
-                    javax.swing.JOptionPane.ERROR_MESSAGE);
-            }
-        }
+        if (choice == 0) return SWING;
+        if (choice == 1) return JAVAFX;
+        return null;
     }
 }
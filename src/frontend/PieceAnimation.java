@@ -0,0 +1,135 @@
+package frontend;
+
+import backend.model.Piece;
+import backend.model.Position;
+
+import java.util.List;
+
+/**
+ * 말 이동 애니메이션 상태 (Swing Timer / JavaFX AnimationTimer 양쪽에서 공통 사용).
+ * 경로는 Position.ordinal() 배열로 보관하고, 매 프레임 보드 좌표 배열(layout)에서
+ * 보간하므로 프레임마다 객체를 생성하지 않는다.
+ * 이동 요청이 애니메이션보다 빨리 들어오면 (예: 봇끼리 대전) 재생 시간을 도착 간격에 맞춰
+ * 줄이고, 그마저 너무 짧으면 애니메이션을 생략한다.
+ */
+public final class PieceAnimation {
+    public static final long FRAME_NANOS = 16_000_000L;
+    public static final long STEP_NANOS = 120_000_000L;  // 한 칸 이동 시간
+    public static final long MIN_DURATION_NANOS = 3 * FRAME_NANOS;
+    private static final int MAX_PATH = 16;
+    private static final Position[] POSITIONS = Position.values();
+
+    private final int[] path = new int[MAX_PATH];
+    private int length;
+    private Piece[] pieces = new Piece[0];
+    private long startNanos;
+    private long durationNanos;
+    private long lastRequestNanos;
+    private boolean active;
+    private double x;
+    private double y;
+
+    /**
+     * 새 애니메이션을 시작한다. 진행 중인 애니메이션이 있으면 끊긴 것으로 보고 재생 시간을 줄인다.
+     * @param movingPieces 함께 움직이는 말들
+     * @param travelPath   출발점부터 도착점까지 한 칸씩의 위치 (END 제외)
+     * @return 애니메이션을 재생하면 true, 생략했으면 false
+     */
+    public boolean start(List<Piece> movingPieces, List<Position> travelPath, long now) {
+        return start(movingPieces, travelPath, now, active);
+    }
+
+    /**
+     * interrupted 를 직접 넘기는 start (패널이 이전 애니메이션을 먼저 정리한 뒤 부를 때).
+     * @param interrupted 이전 애니메이션이 끝나기 전에 이 이동이 들어왔는지
+     */
+    public boolean start(List<Piece> movingPieces, List<Position> travelPath, long now, boolean interrupted) {
+        long sinceLastRequest = now - lastRequestNanos;
+        lastRequestNanos = now;
+        active = false;
+
+        length = Math.min(travelPath.size(), MAX_PATH);
+        if (length < 2) return false;
+
+        long duration = (length - 1) * STEP_NANOS;
+        if (interrupted) {
+            // 이전 애니메이션이 끝나기 전에 다음 이동이 들어옴 -> 도착 간격에 맞춰 압축
+            duration = Math.min(duration, sinceLastRequest);
+        }
+        if (duration < MIN_DURATION_NANOS) return false;
+
+        for (int i = 0; i < length; i++) {
+            path[i] = travelPath.get(i).ordinal();
+        }
+        pieces = movingPieces.toArray(new Piece[0]);
+        startNanos = now;
+        durationNanos = duration;
+        active = true;
+        return true;
+    }
+
+    /**
+     * 현재 시각에 맞춰 보간 위치를 갱신한다.
+     * @return 애니메이션이 아직 진행 중이면 true
+     */
+    public boolean update(long now, double[] layout) {
+        if (!active) return false;
+
+        double t = (double) (now - startNanos) / durationNanos;
+        if (t >= 1) {
+            setPoint(layout, path[length - 1], path[length - 1], 0);
+            active = false;
+            return false;
+        }
+        double progress = Math.max(t, 0) * (length - 1);
+        int segment = (int) progress;
+        setPoint(layout, path[segment], path[segment + 1], progress - segment);
+        return true;
+    }
+
+    private void setPoint(double[] layout, int from, int to, double frac) {
+        double x1 = layout[2 * from];
+        double y1 = layout[2 * from + 1];
+        x = x1 + (layout[2 * to] - x1) * frac;
+        y = y1 + (layout[2 * to + 1] - y1) * frac;
+    }
+
+    /** 진행 중인 애니메이션을 즉시 끝낸다. */
+    public void cancel() {
+        active = false;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isMoving(Piece piece) {
+        if (!active) return false;
+        for (Piece p : pieces) {
+            if (p == piece) return true;
+        }
+        return false;
+    }
+
+    public Piece[] getPieces() {
+        return pieces;
+    }
+
+    /** 도착 위치 */
+    public Position getDestination() {
+        return POSITIONS[path[length - 1]];
+    }
+
+    /** 재생 시간 (끊긴 이동이면 줄어든 값) */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+}
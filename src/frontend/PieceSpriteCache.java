@@ -0,0 +1,68 @@
+package frontend;
+
+import java.util.Arrays;
+
+/**
+ * 플레이어별 말 그림(업힌 수 배지 포함)을 미리 그려 두는 캐시.
+ * 플레이어 순번과 업힌 말 수로 찾으므로 말을 그릴 때는 이미지 한 장만 복사하면 된다.
+ * 말 크기마다 별도의 캐시 객체를 사용한다.
+ * @param <ImageType> 이미지 타입 (BufferedImage for Swing, Image for JavaFX)
+ */
+abstract class PieceSpriteCache<ImageType> {
+    private static final int MAX_PLAYERS = 4;
+    protected static final int PAD = 1; // 테두리 선이 잘리지 않도록 둔 여백
+
+    private final int pieceSize;
+    private final int badgeSize;
+    // [플레이어 슬롯][업힌 수] (슬롯 0은 순번이 없는 플레이어용 기본 색)
+    private final Object[][] sprites = new Object[MAX_PLAYERS + 1][0];
+
+    protected PieceSpriteCache(int pieceSize) {
+        this.pieceSize = pieceSize;
+        this.badgeSize = Math.max(10, pieceSize * 2 / 3);
+    }
+
+    /** 말 그림을 그린다. 말은 (PAD, PAD + badgeSize/2)에서 시작하고, 배지는 오른쪽 위 모서리에 걸친다. */
+    protected abstract ImageType render(int rgb, int stackCount);
+
+    // 오프스크린 일괄 렌더링에서 여러 스레드가 함께 사용하므로 동기화
+    @SuppressWarnings("unchecked")
+    synchronized ImageType get(int playerIndex, int stackCount) {
+        int slot = playerIndex >= 0 && playerIndex < MAX_PLAYERS ? playerIndex + 1 : 0;
+        Object[] bySize = sprites[slot];
+        if (stackCount >= bySize.length) {
+            bySize = Arrays.copyOf(bySize, stackCount + 1);
+            sprites[slot] = bySize;
+        }
+        if (bySize[stackCount] == null) {
+            bySize[stackCount] = render(AbstractBoardPanel.PlayerColors.getColorRgb(playerIndex), stackCount);
+        }
+        return (ImageType) bySize[stackCount];
+    }
+
+    int getPieceSize() {
+        return pieceSize;
+    }
+
+    int getBadgeSize() {
+        return badgeSize;
+    }
+
+    int getWidth() {
+        return PAD + pieceSize + badgeSize / 2 + PAD;
+    }
+
+    int getHeight() {
+        return PAD + badgeSize / 2 + pieceSize + PAD;
+    }
+
+    /** 말 중심이 cx에 오도록 그릴 때 이미지 왼쪽 x 좌표 */
+    int left(double cx) {
+        return (int) Math.round(cx - pieceSize / 2.0) - PAD;
+    }
+
+    /** 말 중심이 cy에 오도록 그릴 때 이미지 위쪽 y 좌표 */
+    int top(double cy) {
+        return (int) Math.round(cy - pieceSize / 2.0) - badgeSize / 2 - PAD;
+    }
+}
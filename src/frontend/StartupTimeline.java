@@ -0,0 +1,76 @@
+package frontend;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 시작 구간 시간 기록: JVM 시작 → main → UI 클래스 로딩 → 툴킷 초기화 → 첫 화면.
+ * 첫 화면이 뜨면 구간별 시간을 한 줄로 출력한다.
+ * java.management는 첫 화면 이후에만 읽어 측정 구간에 끼어들지 않게 한다.
+ */
+final class StartupTimeline {
+    private static long mainWallMillis;
+    private static long mainNanos;
+    private static long classesLoadedNanos;
+    private static volatile long toolkitReadyNanos;
+    private static boolean firstFrameSeen;
+    private static boolean exitAfterFirstFrame;
+
+    private StartupTimeline() {
+    }
+
+    static void mainStarted() {
+        mainWallMillis = System.currentTimeMillis();
+        mainNanos = System.nanoTime();
+    }
+
+    /** 첫 화면을 출력한 뒤 종료 (AppCDS 아카이브를 만들 때 사용) */
+    static void setExitAfterFirstFrame(boolean exit) {
+        exitAfterFirstFrame = exit;
+    }
+
+    static void classesLoaded() {
+        classesLoadedNanos = System.nanoTime();
+    }
+
+    static void toolkitReady() {
+        if (toolkitReadyNanos == 0) toolkitReadyNanos = System.nanoTime();
+    }
+
+    /** UI 스레드에서 첫 창이 표시될 때 한 번 호출 */
+    static void firstFrame() {
+        long now = System.nanoTime();
+        synchronized (StartupTimeline.class) {
+            if (firstFrameSeen || mainNanos == 0) return;
+            firstFrameSeen = true;
+        }
+        toolkitReady(); // 툴킷 쪽에서 따로 알리지 않은 경우
+        long jvmToMain = mainWallMillis - ManagementFactory.getRuntimeMXBean().getStartTime();
+        long classLoading = classesLoadedNanos - mainNanos;
+        long toolkitInit = toolkitReadyNanos - classesLoadedNanos;
+        long firstFrame = now - toolkitReadyNanos;
+        long total = jvmToMain + (now - mainNanos) / 1_000_000;
+        ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+        System.out.println("[startup] JVM 시작→main " + jvmToMain + "ms"
+                + ", 클래스 로딩 " + millis(classLoading) + "ms"
+                + ", 툴킷 초기화 " + millis(toolkitInit) + "ms"
+                + ", 첫 화면 " + millis(firstFrame) + "ms"
+                + " (합계 " + total + "ms, 클래스 " + classes.getTotalLoadedClassCount() + "개"
+                + (usesCdsArchive() ? ", CDS 사용" : "") + ")");
+        if (exitAfterFirstFrame) {
+            System.exit(0);
+        }
+    }
+
+    private static long millis(long nanos) {
+        return Math.max(0, nanos) / 1_000_000;
+    }
+
+    // -XX:SharedArchiveFile 로 앱 아카이브를 지정했는지 (실제 매핑 여부는 -Xlog:cds 로 확인)
+    private static boolean usesCdsArchive() {
+        for (String arg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (arg.startsWith("-XX:SharedArchiveFile")) return true;
+        }
+        return false;
+    }
+}
@@ -1,10 +1,12 @@
 package frontend;
 
 import backend.model.Board;
+import backend.model.BoardShape;
 import backend.model.Piece;
 import backend.model.Position;
 
 import javax.swing.JPanel;
+import javax.swing.Timer;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
@@ -14,11 +16,36 @@ import java.awt.geom.Path2D;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 public class SwingBoardPanel extends AbstractBoardPanel<Point> {
     private JPanel panel;
+    // 말을 제외한 정적인 보드 그림 캐시 (크기, 화면 배율, 보드 모양이 바뀔 때만 다시 그림)
+    private BufferedImage boardLayer;
+    private BoardShape boardLayerShape;
+    private int boardLayerWidth;
+    private int boardLayerHeight;
+    private double boardLayerScaleX;
+    private double boardLayerScaleY;
+    private static final int PIECE_SIZE = 12;
+    // 위험도 칠하기 색 (알파값마다 하나, 그릴 때마다 만들지 않음)
+    private static final Color[] RISK_COLORS = new Color[256];
+    static {
+        for (int alpha = 0; alpha < RISK_COLORS.length; alpha++) {
+            RISK_COLORS[alpha] = new Color(220, 0, 0, alpha);
+        }
+    }
+    private final SwingPieceSprites sprites = SwingPieceSprites.forSize(PIECE_SIZE);
+    // 직전 paint에서 각 위치(Position.ordinal())에 그려진 말 묶음 수 (부분 다시 그리기 영역 계산용)
+    private final int[] drawnSlots = new int[BoardGeometry.POSITION_COUNT];
+    // 말 이동 애니메이션용 고정 주기 프레임 타이머
+    private final Timer frameTimer = new Timer((int) (PieceAnimation.FRAME_NANOS / 1_000_000), e -> onAnimationFrame());
     
     public SwingBoardPanel(Board board) {
         super(board);
@@ -51,36 +78,69 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
     }
     
     @Override
-    protected void initializeTraditionalCoords() {
-        calculateTraditionalLayout();
+    public void setRiskOverlay(double[] riskByPosition) {
+        // 색이 바뀐 노드 영역만 다시 그림 (말 이동 뒤의 부분 다시 그리기를 덮어쓰지 않음)
+        for (Position pos : replaceRiskOverlay(riskByPosition)) {
+            Point p = coords.get(pos);
+            panel.repaint(p.x - 12, p.y - 12, 25, 25);
+        }
     }
     
-    @Override
-    protected void initializePentagonCoords() {
-        calculatePentagonLayout();
+    /**
+     * 말 구성이 바뀐 위치들의 영역만 다시 그립니다.
+     * 이전에 그려진 말과 현재 말을 모두 덮도록 노드 주변 사각형을 계산합니다.
+     */
+    public void repaintPositions(Collection<Position> changed) {
+        for (Position pos : changed) {
+            Point p = coords.get(pos);
+            if (p == null) continue;
+            int slots = Math.max(drawnSlots[pos.ordinal()], board != null ? stackSlots(board.getPiecesAt(pos)) : 0);
+            int left = Math.min(p.x - 13, sprites.left(p.x));
+            int top = Math.min(p.y - 13, sprites.top(p.y));
+            int right = Math.max(p.x + 13, sprites.left(p.x) + slots * sprites.getWidth());
+            int bottom = Math.max(p.y + 13, sprites.top(p.y) + sprites.getHeight());
+            panel.repaint(left, top, right - left, bottom - top);
+        }
     }
     
     @Override
-    protected void initializeHexagonCoords() {
-        calculateHexagonLayout();
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+        // cancel 전에 읽어야 start 가 끊긴 이동으로 보고 재생 시간을 줄임
+        boolean interrupted = animation.isActive();
+        if (interrupted) {
+            // 이전 애니메이션을 끊고 바로 도착 상태로 그림
+            animation.cancel();
+            panel.repaint();
+        }
+        long now = System.nanoTime();
+        if (animation.start(pieces, travelPath, now, interrupted)) {
+            animation.update(now, layout);
+            repaintMovingStack();
+            frameTimer.start();
+        } else {
+            frameTimer.stop();
+        }
     }
     
-    @Override
-    protected Point createPoint(double x, double y) {
-        return new Point((int)x, (int)y);
+    private void onAnimationFrame() {
+        repaintMovingStack();
+        if (!animation.update(System.nanoTime(), layout)) {
+            frameTimer.stop();
+            repaintPositions(Collections.singletonList(animation.getDestination()));
+        } else {
+            repaintMovingStack();
+        }
     }
     
-    @Override
-    protected Point midpoint(Point a, Point b) {
-        return lerp(a, b, 0.5);
+    // 움직이는 말 묶음이 현재 차지하는 영역만 다시 그림
+    private void repaintMovingStack() {
+        panel.repaint(sprites.left(animation.getX()), sprites.top(animation.getY()),
+                sprites.getWidth(), sprites.getHeight());
     }
     
     @Override
-    protected Point lerp(Point a, Point b, double t) {
-        return new Point(
-            (int)(a.x + (b.x - a.x) * t),
-            (int)(a.y + (b.y - a.y) * t)
-        );
+    protected Point createPoint(double x, double y) {
+        return new Point((int)x, (int)y);
     }
     
     @Override
@@ -93,19 +153,66 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
         return panel.getHeight();
     }
     
+    /**
+     * 화면에 띄우지 않고 width×height 크기로 보드를 g2d에 그립니다. (스냅샷 저장, 렌더링 벤치마크용)
+     * 패널이 화면에 없으므로 EDT가 아닌 스레드에서 호출해도 됩니다.
+     */
+    public void paintOffscreen(Graphics2D g2d, int width, int height) {
+        panel.setSize(width, height);
+        paintBoard(g2d);
+    }
+    
     private void paintBoard(Graphics g) {
-        if (getComponentWidth() > 0 && getComponentHeight() > 0) {
+        int width = panel.getWidth();
+        int height = panel.getHeight();
+        if (width <= 0 || height <= 0) return;
+        
+        Graphics2D g2d = (Graphics2D) g;
+        // HiDPI 화면에서는 Graphics 변환에 배율이 들어 있으므로 캐시도 장치 픽셀 크기로 만듦
+        AffineTransform tx = g2d.getTransform();
+        double scaleX = Math.abs(tx.getScaleX());
+        double scaleY = Math.abs(tx.getScaleY());
+        if (boardLayer == null || boardLayerWidth != width || boardLayerHeight != height
+                || boardLayerScaleX != scaleX || boardLayerScaleY != scaleY || boardLayerShape != boardShape) {
             initializeCoords();
+            boardLayer = renderBoardLayer(width, height, scaleX, scaleY);
+            boardLayerShape = boardShape;
+            boardLayerWidth = width;
+            boardLayerHeight = height;
+            boardLayerScaleX = scaleX;
+            boardLayerScaleY = scaleY;
         }
         
-        Graphics2D g2d = (Graphics2D) g;
+        g2d.drawImage(boardLayer, 0, 0, width, height, null);
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        drawBoardOutline(g2d);
-        drawPaths(g2d);
-        drawNodes(g2d);
+        drawRisk(g2d);
         drawPieces(g2d);
-        drawDirectionArrows(g2d);
+        drawDirectionArrows(g2d); // 캐시 전과 같이 말 위에 그림
+    }
+    
+    // 윤곽선, 경로, 노드를 장치 픽셀 크기 이미지 한 장에 미리 그려둠
+    private BufferedImage renderBoardLayer(int width, int height, double scaleX, double scaleY) {
+        int deviceWidth = (int) Math.ceil(width * scaleX);
+        int deviceHeight = (int) Math.ceil(height * scaleY);
+        GraphicsConfiguration gc = panel.getGraphicsConfiguration();
+        BufferedImage image = (gc != null)
+                ? gc.createCompatibleImage(deviceWidth, deviceHeight, Transparency.OPAQUE)
+                : new BufferedImage(deviceWidth, deviceHeight, BufferedImage.TYPE_INT_RGB);
+        
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setColor(panel.getBackground());
+            g2d.fillRect(0, 0, deviceWidth, deviceHeight);
+            g2d.scale(scaleX, scaleY);
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            
+            drawBoardOutline(g2d);
+            drawPaths(g2d);
+            drawNodes(g2d);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
     }
     
     private void drawBoardOutline(Graphics2D g2d) {
@@ -135,7 +242,7 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
             case PENTAGON:
                 // 오각형 윤곽선
                 for (int i = 0; i < 5; i++) {
-                    Position pos = Position.valueOf("POS_" + (i * 5)); // 각 꼭지점 (0, 5, 10, 15, 20)
+                    Position pos = Position.outer(i * 5); // 각 꼭지점 (0, 5, 10, 15, 20)
                     Point p = coords.get(pos);
                     
                     if (p != null) {
@@ -153,7 +260,7 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
             case HEXAGON:
                 // 육각형 윤곽선
                 for (int i = 0; i < 6; i++) {
-                    Position pos = Position.valueOf("POS_" + (i * 5)); // 각 꼭지점 (0, 5, 10, 15, 20, 25)
+                    Position pos = Position.outer(i * 5); // 각 꼭지점 (0, 5, 10, 15, 20, 25)
                     Point p = coords.get(pos);
                     
                     if (p != null) {
@@ -195,7 +302,7 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
         // 외곽 경로
         Position[] outerPath = new Position[20];
         for (int i = 0; i < 20; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(g2d, outerPath);
         
@@ -211,7 +318,7 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
         // 외곽 경로
         Position[] outerPath = new Position[25];
         for (int i = 0; i < 25; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(g2d, outerPath);
         
@@ -227,7 +334,7 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
         // 외곽 경로
         Position[] outerPath = new Position[30];
         for (int i = 0; i < 30; i++) {
-            outerPath[i] = Position.valueOf("POS_" + i);
+            outerPath[i] = Position.outer(i);
         }
         drawPath(g2d, outerPath);
         
@@ -315,20 +422,41 @@ public class SwingBoardPanel extends AbstractBoardPanel<Point> {
         }
     }
     
+    // 잡힐 확률이 높을수록 진한 빨간색으로 노드 안쪽을 칠함
+    private void drawRisk(Graphics2D g2d) {
+        if (riskOverlay == null) return;
+        for (Map.Entry<Position, Point> e : coords.entrySet()) {
+            int alpha = riskAlpha(e.getKey());
+            if (alpha == 0) continue;
+            Point p = e.getValue();
+            g2d.setColor(RISK_COLORS[alpha]);
+            g2d.fillOval(p.x - 11, p.y - 11, 22, 22);
+        }
+    }
+    
     private void drawPieces(Graphics2D g2d) {
         if (board != null) {
             for (Map.Entry<Position, Point> e : coords.entrySet()) {
                 Position pos = e.getKey();
                 Point p = e.getValue();
                 List<Piece> list = board.getPiecesAt(pos);
+                // 같은 주인의 말 묶음마다 업힌 수 배지가 그려진 그림 한 장을 복사
+                int slot = 0;
                 for (int i = 0; i < list.size(); i++) {
-                    Piece piece = list.get(i);
-                    String colorHex = PlayerColors.getColorHex(piece.getOwner().getName());
-                    g2d.setColor(Color.decode(colorHex));
-                    g2d.fillOval(p.x - 6 + i * 12, p.y - 6, 12, 12);
+                    int stack = ownerStackSizeAt(list, i);
+                    if (stack == 0) continue; // 이동 중이거나 이미 묶음에 포함된 말
+                    BufferedImage sprite = sprites.get(list.get(i).getOwner().getIndex(), stack);
+                    g2d.drawImage(sprite, sprites.left(p.x) + slot * sprites.getWidth(), sprites.top(p.y), null);
+                    slot++;
                 }
+                drawnSlots[pos.ordinal()] = slot;
             }
         }
+        if (animation.isActive()) {
+            Piece[] moving = animation.getPieces();
+            BufferedImage sprite = sprites.get(moving[0].getOwner().getIndex(), moving.length);
+            g2d.drawImage(sprite, sprites.left(animation.getX()), sprites.top(animation.getY()), null);
+        }
     }
     
     private void drawDirectionArrows(Graphics2D g2d) {
@@ -0,0 +1,67 @@
+package frontend;
+
+import javax.swing.AbstractListModel;
+import javax.swing.JList;
+import javax.swing.Timer;
+
+/**
+ * LogBuffer를 JList에 연결하는 리스트 모델.
+ * JList는 보이는 줄만 그리므로 로그가 길어져도 화면 갱신 비용이 일정하다.
+ * 추가된 줄은 프레임(16ms) 단위로 모아서 한 번에 반영하고 마지막 줄로 스크롤한다.
+ */
+class SwingLogListModel extends AbstractListModel<String> {
+    private static final long serialVersionUID = 1L;
+
+    private final LogBuffer buffer = new LogBuffer(LogBuffer.DEFAULT_CAPACITY);
+    private final Timer flushTimer;
+    private JList<String> view;
+
+    SwingLogListModel() {
+        flushTimer = new Timer((int) (PieceAnimation.FRAME_NANOS / 1_000_000), e -> flush());
+        flushTimer.setRepeats(false);
+    }
+
+    void setView(JList<String> view) {
+        this.view = view;
+    }
+
+    /** 어느 스레드에서든 호출 가능 */
+    void append(String line) {
+        if (buffer.offer(line)) {
+            // Timer.start()는 스레드 안전하며, 이벤트는 EDT에서 실행됨
+            flushTimer.restart();
+        }
+    }
+
+    private void flush() {
+        int added = buffer.flush(null);
+        if (added == 0) return;
+        int evicted = buffer.getLastEvicted();
+        if (evicted > 0) {
+            fireIntervalRemoved(this, 0, evicted - 1);
+        }
+        int size = buffer.size();
+        fireIntervalAdded(this, size - added, size - 1);
+        if (view != null) {
+            view.ensureIndexIsVisible(size - 1);
+        }
+    }
+
+    void clear() {
+        int oldSize = buffer.size();
+        buffer.clear();
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return buffer.size();
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return buffer.get(index);
+    }
+}
@@ -0,0 +1,62 @@
+package frontend;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Swing용 말 그림 캐시
+ */
+final class SwingPieceSprites extends PieceSpriteCache<BufferedImage> {
+    private static final Map<Integer, SwingPieceSprites> BY_SIZE = new HashMap<>();
+
+    private SwingPieceSprites(int pieceSize) {
+        super(pieceSize);
+    }
+
+    /** 말 크기별로 하나씩 공유되는 캐시 */
+    static synchronized SwingPieceSprites forSize(int pieceSize) {
+        return BY_SIZE.computeIfAbsent(pieceSize, SwingPieceSprites::new);
+    }
+
+    @Override
+    protected BufferedImage render(int rgb, int stackCount) {
+        BufferedImage image = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            int d = getPieceSize();
+            int b = getBadgeSize();
+
+            g2d.setColor(new Color(rgb));
+            g2d.fillOval(PAD, PAD + b / 2, d, d);
+
+            if (stackCount > 1) {
+                // 업힌 말 수 배지
+                int bx = PAD + d - b / 2;
+                g2d.setColor(Color.WHITE);
+                g2d.fillOval(bx, PAD, b, b);
+                g2d.setColor(Color.BLACK);
+                g2d.setStroke(new BasicStroke(1f));
+                g2d.drawOval(bx, PAD, b - 1, b - 1);
+
+                g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, Math.max(8, b * 3 / 4)));
+                FontMetrics fm = g2d.getFontMetrics();
+                String text = String.valueOf(stackCount);
+                g2d.drawString(text,
+                        bx + (b - fm.stringWidth(text)) / 2,
+                        PAD + (b - fm.getHeight()) / 2 + fm.getAscent());
+            }
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+}
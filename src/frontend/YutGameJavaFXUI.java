@@ -1,12 +1,16 @@
 package frontend;
 
 import backend.controller.GameController;
+import backend.controller.YutGameUIInterface;
 import backend.game.Game;
 import backend.game.YutThrowResult;
 import backend.model.BoardShape;
 import backend.model.Piece;
 import backend.model.Player;
 import backend.model.Position;
+import backend.search.CaptureRiskMap;
+import backend.search.HintEngine;
+import backend.search.MoveOptions;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
@@ -20,6 +24,7 @@ import javafx.scene.text.FontWeight;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Arrays;
@@ -31,8 +36,13 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
     private Stage primaryStage;
     
     private Label statusLabel;
-    private TextArea logArea;
-    private TextArea indicatorArea;
+    private final JavaFXLogList logLines = new JavaFXLogList(); // 최근 로그만 보관하는 링 버퍼
+    // 게임 현황: 플레이어별 한 줄씩, 카운터가 바뀐 줄만 다시 씀
+    private VBox indicatorBox;
+    private Label currentTurnLabel;
+    private final List<Label> playerRows = new ArrayList<>();
+    private int[] shownVersions = new int[0];
+    private Game indicatorGame;
     private BorderPane mainLayout;
     private VBox actionPanel;
     private ComboBox<String> yutResultChoiceDropdown;
@@ -43,9 +53,18 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
     private Button endTurnButton;
     private BoardShape selectedBoardShape = BoardShape.TRADITIONAL;
     private JavaFXBoardPanel boardPanel;
+    private Label movePreviewLabel; // 선택한 윷과 말의 예상 도착지
+    private MoveOptions moveOptions = MoveOptions.empty(); // 액션 패널을 띄울 때 모든 (윷, 말) 조합을 미리 계산
+    private List<Piece> shownPieces = new ArrayList<>(); // 말 선택 목록에 보이는 말들
+    private CheckBox riskCheckBox; // 현재 플레이어 말이 잡힐 확률 겹쳐 보기
+    private CaptureRiskMap riskMap;
+    private final HintEngine hintEngine = new HintEngine(); // 추천 수 백그라운드 탐색
+    private Label hintLabel;
+    private int hintGeneration; // 힌트를 시작/취소할 때마다 증가, 지난 탐색의 결과는 버림 (FX 스레드에서만 씀)
 
     @Override
     public void start(Stage primaryStage) {
+        StartupTimeline.toolkitReady();
         this.primaryStage = primaryStage;
         primaryStage.setTitle("전통 윷놀이 (JavaFX)");
         
@@ -64,12 +83,16 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
         mainLayout.setCenter(boardPanel.getPane());
         
         // 왼쪽 인디케이터 영역
-        indicatorArea = new TextArea();
-        indicatorArea.setEditable(false);
-        indicatorArea.setPrefRowCount(10);
-        indicatorArea.setPrefColumnCount(15);
-        indicatorArea.setFont(Font.font("Monospaced", 12));
-        ScrollPane indicatorScroll = new ScrollPane(indicatorArea);
+        indicatorBox = new VBox(2);
+        indicatorBox.setPadding(new Insets(5));
+        currentTurnLabel = createIndicatorLabel("");
+        indicatorBox.getChildren().addAll(
+            createIndicatorLabel("=== 현재 턴 ==="),
+            currentTurnLabel,
+            createIndicatorLabel(""),
+            createIndicatorLabel("=== 말 현황 ===")
+        );
+        ScrollPane indicatorScroll = new ScrollPane(indicatorBox);
         indicatorScroll.setFitToWidth(true);
         mainLayout.setLeft(indicatorScroll);
         
@@ -92,6 +115,7 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
         
         yutResultChoiceDropdown = new ComboBox<>();
         pieceChoiceDropdown = new ComboBox<>();
+        movePreviewLabel = new Label("");
         applyMoveButton = new Button("선택한 대로 이동 실행");
         endTurnButton = new Button("턴 마치기 / 윷 사용 포기");
         
@@ -100,41 +124,60 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
             yutResultChoiceDropdown,
             new Label("움직일 말:"),
             pieceChoiceDropdown,
+            movePreviewLabel,
             applyMoveButton,
             endTurnButton
         );
         actionPanel.setVisible(false);
         controlPanel.getChildren().add(actionPanel);
         
+        // 잡힐 위험도 표시
+        riskCheckBox = new CheckBox("잡힐 위험도 표시");
+        riskCheckBox.setOnAction(e -> updateRiskOverlay());
+        controlPanel.getChildren().add(riskCheckBox);
+        
+        // 힌트 (백그라운드 탐색, 깊어질 때마다 추천 갱신)
+        Button hintButton = new Button("힌트");
+        hintButton.setOnAction(e -> startHint());
+        hintLabel = new Label("");
+        hintLabel.setWrapText(true);
+        controlPanel.getChildren().addAll(hintButton, hintLabel);
+        
         mainLayout.setRight(controlPanel);
         
         // 하단 로그 영역
-        logArea = new TextArea();
-        logArea.setEditable(false);
-        logArea.setPrefRowCount(5);
-        logArea.setFont(Font.font("Monospaced", 12));
-        ScrollPane logScroll = new ScrollPane(logArea);
-        logScroll.setFitToWidth(true);
-        mainLayout.setBottom(logScroll);
+        // ListView는 보이는 셀만 만들므로 자체 스크롤을 사용 (ScrollPane으로 감싸지 않음)
+        ListView<String> logView = new ListView<>(logLines);
+        logView.setFixedCellSize(18);
+        logView.setPrefHeight(5 * 18 + 4);
+        logView.setStyle("-fx-font-family: 'Monospaced'; -fx-font-size: 12px;");
+        logLines.setView(logView);
+        mainLayout.setBottom(logView);
         
         // 버튼 이벤트 핸들러 설정
         randomThrowButton.setOnAction(e -> {
+            cancelHint();
             if (controller != null) controller.handleThrowRequest(true);
         });
         
         designatedThrowButton.setOnAction(e -> {
+            cancelHint();
             if (controller != null) controller.handleThrowRequest(false);
         });
         
         applyMoveButton.setOnAction(e -> applySelectedMoveAction());
+        yutResultChoiceDropdown.setOnAction(e -> updateMovePreview());
+        pieceChoiceDropdown.setOnAction(e -> updateMovePreview());
         
         endTurnButton.setOnAction(e -> {
+            cancelHint();
             if (controller != null) controller.playerEndsTurnActions();
         });
         
         // 씬 설정
         Scene scene = new Scene(mainLayout, 1200, 800);
         primaryStage.setScene(scene);
+        primaryStage.setOnShown(e -> StartupTimeline.firstFrame());
         primaryStage.show();
         
         // 게임 설정 시작
@@ -217,10 +260,7 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
 
     @Override
     public void logMessage(String message) {
-        Platform.runLater(() -> {
-            logArea.appendText(message + "\n");
-            logArea.setScrollTop(Double.MAX_VALUE);
-        });
+        logLines.append(message); // 다음 펄스에 모아서 반영됨
     }
 
     @Override
@@ -232,35 +272,88 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
         });
     }
 
+    @Override
+    public void refreshBoard(List<Position> changedPositions) {
+        // 말 레이어가 직전 프레임과 달라진 위치만 다시 그리므로 전체 갱신과 같음
+        refreshBoard();
+    }
+
+    @Override
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+        Platform.runLater(() -> {
+            if (boardPanel != null) {
+                boardPanel.animateMove(pieces, travelPath);
+            }
+        });
+    }
+
     @Override
     public void updateIndicators() {
         Platform.runLater(() -> {
             if (gameModel == null || gameModel.getPlayers() == null) {
-                indicatorArea.setText("");
+                clearIndicators();
                 return;
             }
             
-            StringBuilder sb = new StringBuilder();
-            sb.append("=== 현재 턴 ===\n");
-            if (gameModel.getCurrentPlayer() != null) {
-                sb.append(gameModel.getCurrentPlayer().getName()).append("\n\n");
+            List<Player> players = gameModel.getPlayers();
+            if (indicatorGame != gameModel || playerRows.size() != players.size()) {
+                // 새 게임이면 플레이어 줄을 새로 만듦
+                clearIndicators();
+                indicatorGame = gameModel;
+                shownVersions = new int[players.size()];
+                for (int i = 0; i < players.size(); i++) {
+                    Label row = createIndicatorLabel("");
+                    playerRows.add(row);
+                    shownVersions[i] = -1;
+                }
+                indicatorBox.getChildren().addAll(playerRows);
+            }
+            
+            String turnText = gameModel.getCurrentPlayer() != null ? gameModel.getCurrentPlayer().getName() : "";
+            if (!turnText.equals(currentTurnLabel.getText())) {
+                currentTurnLabel.setText(turnText);
             }
-            sb.append("=== 말 현황 ===\n");
-            for (Player p : gameModel.getPlayers()) {
-                if (p != null && p.getPieces() != null) {
-                    long offBoardCount = p.getPieces().stream()
-                        .filter(pc -> pc != null && pc.getPosition() == Position.OFFBOARD)
-                        .count();
-                    long finishedCount = p.getPieces().stream()
-                        .filter(pc -> pc != null && pc.isFinished())
-                        .count();
-                    sb.append(String.format("%s: 출발전 %d, 완료 %d\n", 
-                        p.getName(), offBoardCount, finishedCount));
+            // 카운터가 바뀐 플레이어 줄만 갱신
+            for (int i = 0; i < players.size(); i++) {
+                Player p = players.get(i);
+                if (p != null && p.getStateVersion() != shownVersions[i]) {
+                    shownVersions[i] = p.getStateVersion();
+                    playerRows.get(i).setText(String.format("%s: 출발전 %d, 판 위 %d, 완료 %d, 최대 업기 %d",
+                        p.getName(), p.getOffBoardCount(), p.getOnBoardCount(),
+                        p.getFinishedCount(), p.getLargestStackSize()));
                 }
             }
-            indicatorArea.setText(sb.toString());
+            updateRiskOverlay();
         });
     }
+    
+    // 말이 움직이거나 턴이 바뀔 때마다 현재 플레이어 기준으로 다시 계산 (바뀐 상대 말 묶음만 새로 계산됨)
+    private void updateRiskOverlay() {
+        if (boardPanel == null) return;
+        if (!riskCheckBox.isSelected() || gameModel == null || gameModel.getCurrentPlayer() == null) {
+            boardPanel.setRiskOverlay(null);
+            return;
+        }
+        if (riskMap == null || riskMap.getShape() != selectedBoardShape) {
+            riskMap = new CaptureRiskMap(selectedBoardShape);
+        }
+        riskMap.update(gameModel.getBoard(), gameModel.getPlayers(), gameModel.getCurrentPlayer());
+        boardPanel.setRiskOverlay(riskMap.toArray());
+    }
+    
+    private void clearIndicators() {
+        indicatorBox.getChildren().removeAll(playerRows);
+        playerRows.clear();
+        shownVersions = new int[0];
+        indicatorGame = null;
+        currentTurnLabel.setText("");
+    }
+    
+    private Label createIndicatorLabel(String text) {
+        Label label = new Label(text);
+        label.setFont(Font.font("Monospaced", 12));
+        return label;
+    }
 
     @Override
     public void enableThrowButtons(boolean enable) {
@@ -272,7 +365,12 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
 
     @Override
     public void showActionPanel(boolean show, List<YutThrowResult> availableThrows, List<Piece> movablePieces) {
+        // 컨트롤러 상태가 바뀌기 전에 (호출한 스레드에서) 모든 조합을 계산해 둠
+        MoveOptions options = show && controller != null ? controller.getMoveOptions() : MoveOptions.empty();
         Platform.runLater(() -> {
+            cancelHint(); // 고를 수 있는 수가 바뀜
+            moveOptions = options;
+            shownPieces = movablePieces != null ? movablePieces : new ArrayList<>();
             actionPanel.setVisible(show);
             endTurnButton.setDisable(!show);
             
@@ -304,8 +402,58 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
                 pieceChoiceDropdown.getItems().clear();
                 applyMoveButton.setDisable(true);
             }
+            updateMovePreview();
         });
     }
+    
+    // 현재 남은 윷 결과로 둘 수 있는 수 중 추천을 백그라운드에서 찾음 (FX 스레드는 기다리지 않음)
+    private void startHint() {
+        cancelHint();
+        MoveOptions options = controller != null ? controller.getMoveOptions() : MoveOptions.empty();
+        if (options.isEmpty()) {
+            hintLabel.setText("추천할 수 없음 (윷을 먼저 던지세요)");
+            return;
+        }
+        hintLabel.setText("힌트 계산 중...");
+        int generation = hintGeneration;
+        hintEngine.start(selectedBoardShape, options, hint -> Platform.runLater(() -> {
+            if (generation == hintGeneration) hintLabel.setText(formatHint(hint));
+        }));
+    }
+    
+    // 플레이어가 행동했거나 턴이 바뀌면 진행 중인 힌트 탐색을 멈추고 지움
+    private void cancelHint() {
+        hintGeneration++;
+        hintEngine.cancel();
+        if (hintLabel != null) hintLabel.setText("");
+    }
+    
+    private static String formatHint(HintEngine.Hint hint) {
+        MoveOptions.Option option = hint.getOption();
+        String from = option.getFrom() == Position.OFFBOARD ? "출발안함" : option.getFrom().name();
+        String to = option.getTo() == Position.END ? "도착" : option.getTo().name();
+        return String.format("추천: %s, %s → %s%s (깊이 %d%s)", option.getThrowResult().name(), from, to,
+                option.isCaptured() ? " 잡기" : "", hint.getDepth(), hint.isLast() ? "" : "…");
+    }
+    
+    // 미리 계산한 표에서 선택한 (윷, 말)의 도착지를 찾아 보여줌
+    private void updateMovePreview() {
+        String selectedYut = yutResultChoiceDropdown.getValue();
+        int pieceIndex = pieceChoiceDropdown.getSelectionModel().getSelectedIndex();
+        if (selectedYut == null || pieceIndex < 0 || pieceIndex >= shownPieces.size()) {
+            movePreviewLabel.setText("");
+            return;
+        }
+        YutThrowResult yut = YutThrowResult.fromString(selectedYut.split(" ")[0]);
+        MoveOptions.Option option = moveOptions.find(yut, shownPieces.get(pieceIndex));
+        if (option == null) {
+            movePreviewLabel.setText("이동 불가");
+        } else {
+            String to = option.getTo() == Position.END ? "도착" : option.getTo().name();
+            movePreviewLabel.setText("예상: " + to + (option.getStackSize() > 1 ? " (" + option.getStackSize() + "개 업힘)" : "")
+                    + (option.isCaptured() ? " - 잡기!" : ""));
+        }
+    }
 
     @Override
     public YutThrowResult promptForDesignatedThrow() {
@@ -368,8 +516,8 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
             if (result.isPresent()) {
                 if (result.get() == newGameButton) {
                     // 로그와 인디케이터 초기화
-                    logArea.setText("");
-                    indicatorArea.setText("");
+                    logLines.clear();
+                    clearIndicators();
                     // TODO: 보드 패널 초기화
                     promptForGameSetup();
                 } else {
@@ -381,6 +529,7 @@ public class YutGameJavaFXUI extends Application implements YutGameUIInterface {
 
     private void applySelectedMoveAction() {
         if (controller == null) return;
+        cancelHint();
 
         String selectedYutResultStr = yutResultChoiceDropdown.getValue();
         if (selectedYutResultStr == null || selectedYutResultStr.isEmpty() ||
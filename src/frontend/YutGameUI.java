@@ -2,12 +2,16 @@
 package frontend;
 
 import backend.controller.GameController;
+import backend.controller.YutGameUIInterface;
 import backend.game.Game;
 import backend.game.YutThrowResult;
 import backend.model.Piece;
 import backend.model.Player;
 import backend.model.Position;
 import backend.model.BoardShape;
+import backend.search.CaptureRiskMap;
+import backend.search.HintEngine;
+import backend.search.MoveOptions;
 
 import javax.swing.*;
 import java.awt.*;
@@ -22,7 +26,13 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
     private Game gameModel;
 
     private JLabel statusLabel;
-    private JTextArea logArea, indicatorArea;
+    // 게임 현황: 플레이어별 한 줄씩, 카운터가 바뀐 줄만 다시 씀
+    private JPanel indicatorPanel;
+    private JLabel currentTurnLabel;
+    private final List<JLabel> playerRows = new ArrayList<>();
+    private int[] shownVersions = new int[0];
+    private Game indicatorGame;
+    private final SwingLogListModel logModel = new SwingLogListModel(); // 최근 로그만 보관하는 링 버퍼
     private SwingBoardPanel boardPanel;
     private JButton randomThrowButton, designatedThrowButton;
     private JComboBox<String> yutResultChoiceDropdown;
@@ -30,7 +40,16 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
     private JButton applyMoveButton;
     private JButton endTurnButton; // "턴 마치기" 버튼
     private JPanel actionPanel; // 윷 선택, 말 선택, 이동 버튼을 담을 패널
+    private JLabel movePreviewLabel; // 선택한 윷과 말의 예상 도착지
+    private MoveOptions moveOptions = MoveOptions.empty(); // 액션 패널을 띄울 때 모든 (윷, 말) 조합을 미리 계산
+    private List<Piece> shownPieces = new ArrayList<>(); // 말 선택 목록에 보이는 말들
     private BoardShape selectedBoardShape = BoardShape.TRADITIONAL;
+    private JCheckBox riskCheckBox; // 현재 플레이어 말이 잡힐 확률 겹쳐 보기
+    private CaptureRiskMap riskMap;
+    private final HintEngine hintEngine = new HintEngine(); // 추천 수 백그라운드 탐색
+    private JButton hintButton;
+    private JLabel hintLabel;
+    private int hintGeneration; // 힌트를 시작/취소할 때마다 증가, 지난 탐색의 결과는 버림 (EDT에서만 씀)
 
     public static void launch() {
         SwingUtilities.invokeLater(() -> {
@@ -54,11 +73,15 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
         add(boardPanel.getPanel(), BorderLayout.CENTER);
         boardPanel.getPanel().setVisible(true);  // 명시적으로 가시성 설정
 
-        indicatorArea = new JTextArea(10, 15); // 너비 조정
-        indicatorArea.setEditable(false);
-        indicatorArea.setFont(new Font("Monospaced", Font.PLAIN, 12)); // 가독성 위한 폰트
-        indicatorArea.setBorder(BorderFactory.createTitledBorder("게임 현황"));
-        add(new JScrollPane(indicatorArea), BorderLayout.WEST); // 위치 변경 (왼쪽)
+        indicatorPanel = new JPanel();
+        indicatorPanel.setLayout(new BoxLayout(indicatorPanel, BoxLayout.Y_AXIS));
+        indicatorPanel.setBorder(BorderFactory.createTitledBorder("게임 현황"));
+        indicatorPanel.add(createIndicatorLabel("=== 현재 턴 ==="));
+        currentTurnLabel = createIndicatorLabel(" ");
+        indicatorPanel.add(currentTurnLabel);
+        indicatorPanel.add(createIndicatorLabel(" "));
+        indicatorPanel.add(createIndicatorLabel("=== 말 현황 ==="));
+        add(new JScrollPane(indicatorPanel), BorderLayout.WEST); // 위치 변경 (왼쪽)
 
         // 오른쪽 컨트롤 패널 (던지기 버튼, 액션 패널, 턴 종료 버튼)
         JPanel eastControlPanel = new JPanel();
@@ -85,6 +108,9 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
         actionPanel.add(new JLabel("움직일 말:"));
         actionPanel.add(pieceChoiceDropdown);
 
+        movePreviewLabel = new JLabel(" ");
+        actionPanel.add(movePreviewLabel);
+
         applyMoveButton = new JButton("선택한 대로 이동 실행");
         actionPanel.add(applyMoveButton);
         actionPanel.setVisible(false); // 초기에는 숨김
@@ -97,14 +123,33 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
         endTurnPanel.add(endTurnButton);
         eastControlPanel.add(endTurnPanel);
 
+        // 잡힐 위험도 표시
+        riskCheckBox = new JCheckBox("잡힐 위험도 표시");
+        riskCheckBox.addActionListener(e -> updateRiskOverlay());
+        JPanel riskPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        riskPanel.add(riskCheckBox);
+        eastControlPanel.add(riskPanel);
+
+        // 힌트 (백그라운드 탐색, 깊어질 때마다 추천 갱신)
+        hintButton = new JButton("힌트");
+        hintButton.addActionListener(e -> startHint());
+        hintLabel = new JLabel(" ");
+        JPanel hintPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        hintPanel.add(hintButton);
+        hintPanel.add(hintLabel);
+        eastControlPanel.add(hintPanel);
+
         add(eastControlPanel, BorderLayout.EAST);
 
 
         // 하단 로그 패널
-        logArea = new JTextArea(10, 40); // 높이 증가
-        logArea.setEditable(false);
-        logArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
-        JScrollPane logScrollPane = new JScrollPane(logArea);
+        JList<String> logList = new JList<>(logModel); // 보이는 줄만 그림
+        logList.setVisibleRowCount(10); // 높이 증가
+        logList.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        // 줄 크기를 고정해 전체 줄을 측정하지 않도록 함
+        logList.setPrototypeCellValue("W".repeat(100));
+        logModel.setView(logList);
+        JScrollPane logScrollPane = new JScrollPane(logList);
         add(logScrollPane, BorderLayout.SOUTH);
 
         // 초기 버튼 상태 설정
@@ -112,19 +157,55 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
 
         // 버튼 리스너 연결
         randomThrowButton.addActionListener(e -> {
+            cancelHint();
             if (controller != null) controller.handleThrowRequest(true);
         });
         designatedThrowButton.addActionListener(e -> {
+            cancelHint();
             if (controller != null) controller.handleThrowRequest(false);
         });
         applyMoveButton.addActionListener(e -> applySelectedMoveAction());
+        yutResultChoiceDropdown.addActionListener(e -> updateMovePreview());
+        pieceChoiceDropdown.addActionListener(e -> updateMovePreview());
         endTurnButton.addActionListener(e -> { // 수정된 리스너 연결
+            cancelHint();
             if (controller != null) controller.playerEndsTurnActions();
         });
     }
 
+    // 현재 남은 윷 결과로 둘 수 있는 수 중 추천을 백그라운드에서 찾음 (EDT는 기다리지 않음)
+    private void startHint() {
+        cancelHint();
+        MoveOptions options = controller != null ? controller.getMoveOptions() : MoveOptions.empty();
+        if (options.isEmpty()) {
+            hintLabel.setText("추천할 수 없음 (윷을 먼저 던지세요)");
+            return;
+        }
+        hintLabel.setText("힌트 계산 중...");
+        int generation = hintGeneration;
+        hintEngine.start(selectedBoardShape, options, hint -> SwingUtilities.invokeLater(() -> {
+            if (generation == hintGeneration) hintLabel.setText(formatHint(hint));
+        }));
+    }
+
+    // 플레이어가 행동했거나 턴이 바뀌면 진행 중인 힌트 탐색을 멈추고 지움
+    private void cancelHint() {
+        hintGeneration++;
+        hintEngine.cancel();
+        if (hintLabel != null) hintLabel.setText(" ");
+    }
+
+    private static String formatHint(HintEngine.Hint hint) {
+        MoveOptions.Option option = hint.getOption();
+        String from = option.getFrom() == Position.OFFBOARD ? "출발안함" : option.getFrom().name();
+        String to = option.getTo() == Position.END ? "도착" : option.getTo().name();
+        return String.format("추천: %s, %s → %s%s (깊이 %d%s)", option.getThrowResult().name(), from, to,
+                option.isCaptured() ? " 잡기" : "", hint.getDepth(), hint.isLast() ? "" : "…");
+    }
+
     private void applySelectedMoveAction() {
         if (controller == null) return;
+        cancelHint();
 
         String selectedYutResultStr = (String) yutResultChoiceDropdown.getSelectedItem();
         // String selectedPieceStr = (String) pieceChoiceDropdown.getSelectedItem(); // 이 방식 대신 인덱스 사용
@@ -254,15 +335,7 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
     }
 
     public void logMessage(String message) {
-        if (SwingUtilities.isEventDispatchThread()) {
-            logArea.append(message + "\n");
-            logArea.setCaretPosition(logArea.getDocument().getLength());
-        } else {
-            SwingUtilities.invokeLater(() -> {
-                logArea.append(message + "\n");
-                logArea.setCaretPosition(logArea.getDocument().getLength());
-            });
-        }
+        logModel.append(message); // 프레임 단위로 모아서 반영됨
     }
 
     public void updateStatusLabel(String text) {
@@ -287,6 +360,30 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
         }
     }
 
+    public void refreshBoard(List<Position> changedPositions) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            if (boardPanel != null && boardPanel.getPanel() != null) {
+                boardPanel.repaintPositions(changedPositions);
+            }
+        } else {
+            SwingUtilities.invokeLater(() -> {
+                if (boardPanel != null && boardPanel.getPanel() != null) {
+                    boardPanel.repaintPositions(changedPositions);
+                }
+            });
+        }
+    }
+
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            if (boardPanel != null) boardPanel.animateMove(pieces, travelPath);
+        } else {
+            SwingUtilities.invokeLater(() -> {
+                if (boardPanel != null) boardPanel.animateMove(pieces, travelPath);
+            });
+        }
+    }
+
     public void updateIndicators() {
         if (SwingUtilities.isEventDispatchThread()) {
             updateIndicatorsLogic();
@@ -297,23 +394,71 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
 
     private void updateIndicatorsLogic() {
         if (gameModel == null || gameModel.getPlayers() == null) {
-            indicatorArea.setText(""); // 데이터 없으면 비움
+            clearIndicators(); // 데이터 없으면 비움
             return;
         }
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== 현재 턴 ===").append("\n");
-        if (gameModel.getCurrentPlayer() != null) {
-            sb.append(gameModel.getCurrentPlayer().getName()).append("\n\n");
+        List<Player> players = gameModel.getPlayers();
+        if (indicatorGame != gameModel || playerRows.size() != players.size()) {
+            // 새 게임이면 플레이어 줄을 새로 만듦
+            clearIndicators();
+            indicatorGame = gameModel;
+            shownVersions = new int[players.size()];
+            for (int i = 0; i < players.size(); i++) {
+                JLabel row = createIndicatorLabel(" ");
+                playerRows.add(row);
+                indicatorPanel.add(row);
+                shownVersions[i] = -1;
+            }
+            indicatorPanel.revalidate();
+        }
+
+        String turnText = gameModel.getCurrentPlayer() != null ? gameModel.getCurrentPlayer().getName() : " ";
+        if (!turnText.equals(currentTurnLabel.getText())) {
+            currentTurnLabel.setText(turnText);
         }
-        sb.append("=== 말 현황 ===").append("\n");
-        for (Player p : gameModel.getPlayers()) {
-            if (p != null && p.getPieces() != null) {
-                long offBoardCount = p.getPieces().stream().filter(pc -> pc != null && pc.getPosition() == Position.OFFBOARD).count();
-                long finishedCount = p.getPieces().stream().filter(pc -> pc != null && pc.isFinished()).count();
-                sb.append(String.format("%s: 출발전 %d, 완료 %d\n", p.getName(), offBoardCount, finishedCount));
+        // 카운터가 바뀐 플레이어 줄만 갱신
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (p != null && p.getStateVersion() != shownVersions[i]) {
+                shownVersions[i] = p.getStateVersion();
+                playerRows.get(i).setText(String.format("%s: 출발전 %d, 판 위 %d, 완료 %d, 최대 업기 %d",
+                        p.getName(), p.getOffBoardCount(), p.getOnBoardCount(),
+                        p.getFinishedCount(), p.getLargestStackSize()));
             }
         }
-        indicatorArea.setText(sb.toString());
+        updateRiskOverlay();
+    }
+
+    // 말이 움직이거나 턴이 바뀔 때마다 현재 플레이어 기준으로 다시 계산 (바뀐 상대 말 묶음만 새로 계산됨)
+    private void updateRiskOverlay() {
+        if (boardPanel == null) return;
+        if (!riskCheckBox.isSelected() || gameModel == null || gameModel.getCurrentPlayer() == null) {
+            boardPanel.setRiskOverlay(null);
+            return;
+        }
+        if (riskMap == null || riskMap.getShape() != selectedBoardShape) {
+            riskMap = new CaptureRiskMap(selectedBoardShape);
+        }
+        riskMap.update(gameModel.getBoard(), gameModel.getPlayers(), gameModel.getCurrentPlayer());
+        boardPanel.setRiskOverlay(riskMap.toArray());
+    }
+
+    private void clearIndicators() {
+        for (JLabel row : playerRows) {
+            indicatorPanel.remove(row);
+        }
+        playerRows.clear();
+        shownVersions = new int[0];
+        indicatorGame = null;
+        currentTurnLabel.setText(" ");
+        indicatorPanel.revalidate();
+        indicatorPanel.repaint();
+    }
+
+    private JLabel createIndicatorLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(new Font("Monospaced", Font.PLAIN, 12)); // 가독성 위한 폰트
+        return label;
     }
 
     public void showInfo(String message) { SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(this, message, "알림", JOptionPane.INFORMATION_MESSAGE));}
@@ -348,8 +493,8 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
 
             newGameBtn.addActionListener(e -> {
                 endDialog.dispose();
-                logArea.setText("");
-                indicatorArea.setText("");
+                logModel.clear();
+                clearIndicators();
                 if (boardPanel != null && boardPanel.getPanel() != null) {
                     remove(boardPanel.getPanel());
                 }
@@ -375,7 +520,12 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
     }
 
     public void showActionPanel(boolean show, List<YutThrowResult> availableThrows, List<Piece> movablePieces) {
+        // 컨트롤러 상태가 바뀌기 전에 (호출한 스레드에서) 모든 조합을 계산해 둠
+        MoveOptions options = show && controller != null ? controller.getMoveOptions() : MoveOptions.empty();
         SwingUtilities.invokeLater(() -> {
+            cancelHint(); // 고를 수 있는 수가 바뀜
+            moveOptions = options;
+            shownPieces = movablePieces != null ? movablePieces : new ArrayList<>();
             actionPanel.setVisible(show);
             endTurnButton.setEnabled(show); // 액션 패널이 보일 때(즉, 행동 선택이 필요할 때) 턴 종료 버튼도 함께 제어
 
@@ -409,9 +559,30 @@ public class YutGameUI extends JFrame implements YutGameUIInterface {
                 pieceChoiceDropdown.removeAllItems();
                 applyMoveButton.setEnabled(false);
             }
+            updateMovePreview();
         });
     }
 
+    // 미리 계산한 표에서 선택한 (윷, 말)의 도착지를 찾아 보여줌
+    private void updateMovePreview() {
+        if (movePreviewLabel == null) return;
+        String selectedYut = (String) yutResultChoiceDropdown.getSelectedItem();
+        int pieceIndex = pieceChoiceDropdown.getSelectedIndex();
+        if (selectedYut == null || pieceIndex < 0 || pieceIndex >= shownPieces.size()) {
+            movePreviewLabel.setText(" ");
+            return;
+        }
+        YutThrowResult yut = YutThrowResult.fromString(selectedYut.split(" ")[0]);
+        MoveOptions.Option option = moveOptions.find(yut, shownPieces.get(pieceIndex));
+        if (option == null) {
+            movePreviewLabel.setText("이동 불가");
+        } else {
+            String to = option.getTo() == Position.END ? "도착" : option.getTo().name();
+            movePreviewLabel.setText("예상: " + to + (option.getStackSize() > 1 ? " (" + option.getStackSize() + "개 업힘)" : "")
+                    + (option.isCaptured() ? " - 잡기!" : ""));
+        }
+    }
+
     // 게임 시작/종료 시 전체 인터랙션 버튼 상태 제어
     private void setGameInteractionEnabled(boolean enabled) {
         randomThrowButton.setEnabled(enabled);
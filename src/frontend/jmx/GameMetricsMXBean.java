@@ -0,0 +1,18 @@
+package frontend.jmx;
+
+import java.util.Map;
+
+/**
+ * 게임 진행 카운터 (JMX 이름: yutnori:type=GameMetrics)
+ */
+public interface GameMetricsMXBean {
+    long getThrowCount();
+    /** 윷 결과 이름별 던지기 횟수 */
+    Map<String, Long> getThrowCountsByResult();
+    long getMoveCount();
+    long getCaptureCount();
+    long getCapturedPieceCount();
+    long getExtraThrowCount();
+    long getTurnCount();
+    void reset();
+}
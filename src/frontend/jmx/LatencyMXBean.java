@@ -0,0 +1,17 @@
+package frontend.jmx;
+
+/**
+ * 처리 시간 히스토그램 (JMX 이름: yutnori:type=Latency,name=메서드 이름)
+ * 백분위 값은 2의 거듭제곱 구간 상한으로 근사한 값이다.
+ */
+public interface LatencyMXBean {
+    long getCount();
+    double getMeanMicros();
+    double getP50Micros();
+    double getP90Micros();
+    double getP99Micros();
+    double getMaxMicros();
+    /** 구간별 기록 수 (i번째 구간: 2^(i-1) ~ 2^i 나노초) */
+    long[] getBucketCounts();
+    void reset();
+}
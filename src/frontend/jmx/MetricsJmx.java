@@ -0,0 +1,144 @@
+package frontend.jmx;
+
+import backend.game.YutThrowResult;
+import backend.metrics.GameMetrics;
+import backend.metrics.LatencyHistogram;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GameMetrics를 플랫폼 MBean 서버에 등록한다.
+ * MBean은 읽힐 때만 GameMetrics 값을 모으므로 등록 자체가 게임 진행에 비용을 더하지 않는다.
+ */
+public final class MetricsJmx {
+    public static final String DOMAIN = "yutnori";
+    private static boolean registered;
+
+    private MetricsJmx() {
+    }
+
+    /** 한 번만 등록한다. 이미 등록되어 있으면 아무것도 하지 않는다. */
+    public static synchronized void register() {
+        if (registered) return;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            registerIfAbsent(server, new GameMetricsBean(), new ObjectName(DOMAIN + ":type=GameMetrics"));
+            for (LatencyHistogram histogram : GameMetrics.getLatencyHistograms()) {
+                registerIfAbsent(server, new LatencyBean(histogram),
+                        new ObjectName(DOMAIN + ":type=Latency,name=" + histogram.getName()));
+            }
+            registered = true;
+        } catch (JMException e) {
+            // 지표 노출 실패로 게임을 멈추지는 않음
+            System.err.println("JMX 지표 등록 실패: " + e.getMessage());
+        }
+    }
+
+    private static void registerIfAbsent(MBeanServer server, Object bean, ObjectName name) throws JMException {
+        try {
+            server.registerMBean(bean, name);
+        } catch (InstanceAlreadyExistsException e) {
+            // 같은 JVM에서 이미 등록됨
+        }
+    }
+
+    private static final class GameMetricsBean implements GameMetricsMXBean {
+        @Override
+        public long getThrowCount() {
+            return GameMetrics.getThrowCount();
+        }
+
+        @Override
+        public Map<String, Long> getThrowCountsByResult() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (YutThrowResult result : YutThrowResult.values()) {
+                counts.put(result.name(), GameMetrics.getThrowCount(result));
+            }
+            return counts;
+        }
+
+        @Override
+        public long getMoveCount() {
+            return GameMetrics.getMoveCount();
+        }
+
+        @Override
+        public long getCaptureCount() {
+            return GameMetrics.getCaptureCount();
+        }
+
+        @Override
+        public long getCapturedPieceCount() {
+            return GameMetrics.getCapturedPieceCount();
+        }
+
+        @Override
+        public long getExtraThrowCount() {
+            return GameMetrics.getExtraThrowCount();
+        }
+
+        @Override
+        public long getTurnCount() {
+            return GameMetrics.getTurnCount();
+        }
+
+        @Override
+        public void reset() {
+            GameMetrics.reset();
+        }
+    }
+
+    private static final class LatencyBean implements LatencyMXBean {
+        private final LatencyHistogram histogram;
+
+        LatencyBean(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        @Override
+        public double getMeanMicros() {
+            return histogram.getMeanNanos() / 1000.0;
+        }
+
+        @Override
+        public double getP50Micros() {
+            return histogram.getPercentileNanos(0.50) / 1000.0;
+        }
+
+        @Override
+        public double getP90Micros() {
+            return histogram.getPercentileNanos(0.90) / 1000.0;
+        }
+
+        @Override
+        public double getP99Micros() {
+            return histogram.getPercentileNanos(0.99) / 1000.0;
+        }
+
+        @Override
+        public double getMaxMicros() {
+            return histogram.getMaxNanos() / 1000.0;
+        }
+
+        @Override
+        public long[] getBucketCounts() {
+            return histogram.getBucketCounts();
+        }
+
+        @Override
+        public void reset() {
+            histogram.reset();
+        }
+    }
+}
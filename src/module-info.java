@@ -5,18 +5,17 @@
  * 
  */
 module yutnori {
+	requires transitive yutnori.engine;
 	requires java.desktop;
+	requires java.management;
+	requires jdk.jfr; // 데스크톱 실행 시 엔진의 JFR 이벤트를 켜 둠
+	requires jdk.management;
 	requires javafx.controls;
 	requires javafx.fxml;
 	requires javafx.graphics;
 	requires javafx.base;
 	exports frontend;
-	exports backend.controller;
-	exports backend.game;
-	exports backend.model;
+	exports frontend.jmx;
 	opens frontend to javafx.graphics;
-	opens backend.controller to javafx.graphics;
-	opens backend.game to javafx.graphics;
-	opens backend.model to javafx.graphics;
 	requires org.junit.jupiter.api;
 }
\ No newline at end of file
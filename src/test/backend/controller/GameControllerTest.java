@@ -3,6 +3,7 @@ package test.backend.controller;
 import backend.game.*;
 import backend.model.*;
 import backend.controller.GameController;
+import backend.metrics.GameMetrics;
 import test.backend.controller.TestUI;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,25 @@ public class GameControllerTest {
         assertNotNull(availableThrows);
     }
 
+    @Test
+    void testMoveRecordsOnePathSample() {
+        // 모 한 번: 애니메이션 경로(중간 4칸)는 지표에 기록하지 않고 실제 이동 계산 1번만 기록
+        GameController moController = new GameController(new TestUI() {
+            @Override
+            public YutThrowResult promptForDesignatedThrow() {
+                return YutThrowResult.MO;
+            }
+        }, BoardShape.TRADITIONAL);
+        moController.initializeGame(PLAYER_COUNT, PIECE_COUNT);
+        moController.handleThrowRequest(false);
+        Piece piece = moController.getGame().getCurrentPlayer().getPieces().get(0);
+
+        long before = GameMetrics.PATH_CALCULATION.getCount();
+        moController.applySelectedYutAndPiece(YutThrowResult.MO, piece);
+        assertEquals(Position.POS_5, piece.getPosition());
+        assertEquals(before + 1, GameMetrics.PATH_CALCULATION.getCount());
+    }
+
     @Test
     void testApplySelectedYutAndPiece() {
         // 초기 말 선택
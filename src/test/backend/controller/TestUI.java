@@ -1,9 +1,10 @@
 package test.backend.controller;
 
 import backend.controller.GameController;
+import backend.controller.YutGameUIInterface;
 import backend.game.Game;
 import backend.model.Piece;
-import frontend.YutGameUIInterface;
+import backend.model.Position;
 import backend.game.YutThrowResult;
 
 import java.util.List;
@@ -34,6 +35,16 @@ public class TestUI implements YutGameUIInterface {
         // 테스트에서는 아무것도 하지 않음
     }
 
+    @Override
+    public void refreshBoard(List<Position> changedPositions) {
+        // 테스트에서는 아무것도 하지 않음
+    }
+
+    @Override
+    public void animateMove(List<Piece> pieces, List<Position> travelPath) {
+        // 테스트에서는 아무것도 하지 않음
+    }
+
     @Override
     public void enableThrowButtons(boolean enable) {
         // 테스트에서는 아무것도 하지 않음
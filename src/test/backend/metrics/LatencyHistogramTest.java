@@ -0,0 +1,62 @@
+package test.backend.metrics;
+
+import backend.metrics.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram("test");
+    }
+
+    @Test
+    void testEmptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getPercentileNanos(0.99));
+    }
+
+    @Test
+    void testRecordFillsPowerOfTwoBuckets() {
+        histogram.record(0);    // 0번 구간
+        histogram.record(1);    // 1번 구간
+        histogram.record(3);    // 2번 구간 (2~3)
+        histogram.record(1000); // 10번 구간 (512~1023)
+
+        long[] buckets = histogram.getBucketCounts();
+        assertEquals(1, buckets[0]);
+        assertEquals(1, buckets[1]);
+        assertEquals(1, buckets[2]);
+        assertEquals(1, buckets[10]);
+        assertEquals(4, histogram.getCount());
+        assertEquals(1000, histogram.getMaxNanos());
+        assertEquals(251.0, histogram.getMeanNanos(), 1e-9);
+    }
+
+    @Test
+    void testPercentilesUseBucketUpperBound() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);   // 64~127 구간
+        }
+        histogram.record(5000);      // 4096~8191 구간
+
+        assertEquals(127, histogram.getPercentileNanos(0.50));
+        assertEquals(127, histogram.getPercentileNanos(0.99));
+        // 최대값보다 큰 상한은 최대값으로 잘림
+        assertEquals(5000, histogram.getPercentileNanos(1.0));
+    }
+
+    @Test
+    void testReset() {
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.getBucketCounts()[6]);
+    }
+}
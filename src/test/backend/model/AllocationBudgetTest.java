@@ -0,0 +1,142 @@
+package test.backend.model;
+
+import backend.controller.GameController;
+import backend.game.YutThrowResult;
+import backend.model.Board;
+import backend.model.BoardShape;
+import backend.model.PathManager;
+import backend.model.Piece;
+import backend.model.Player;
+import backend.model.Position;
+import test.backend.controller.TestUI;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 규칙 엔진 주요 경로의 호출당 할당량 회귀 테스트.
+ * 충분히 워밍업한 뒤 현재 스레드가 할당한 바이트를 호출 수로 나눠 예산과 비교한다.
+ * 이동마다 임시 객체를 만드는 변경이 들어오면 실패한다.
+ */
+public class AllocationBudgetTest {
+    // 호출당 허용 바이트 (0이 목표이며, 측정 오차만큼만 여유를 둠)
+    private static final long PATH_BUDGET_BYTES = 8;
+    private static final long PLACE_BUDGET_BYTES = 8;
+    // 한 턴(던지기 + 이동 + 턴 넘기기)은 UI 로그 문자열을 만들므로 그만큼만 허용
+    private static final long TURN_BUDGET_BYTES = 4 * 1024;
+
+    private static final int WARMUP_CALLS = 200_000;
+    private static final int MEASURED_CALLS = 50_000;
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void setUpAll() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * 워밍업 후 action 한 번당 평균 할당 바이트.
+     * 측정 도중 재컴파일(deopt)로 잠깐 인터프리터에서 돌면 값이 튀므로 여러 번 재서 가장 작은 값을 쓴다.
+     */
+    private static long bytesPerCall(Runnable action) {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            action.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                action.run();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            best = Math.min(best, allocated / MEASURED_CALLS);
+        }
+        return best;
+    }
+
+    private static Piece pieceAt(Position pos, Position context) {
+        Piece piece = new Piece(null);
+        piece.moveTo(pos);
+        piece.setPathContextWaypoint(context);
+        return piece;
+    }
+
+    @Test
+    void testMoveGenerationIsAllocationFree() {
+        for (BoardShape shape : BoardShape.values()) {
+            Piece offBoard = pieceAt(Position.OFFBOARD, null);
+            Piece outer = pieceAt(Position.POS_3, null);
+            Piece diagonal = pieceAt(Position.DIA_A1, Position.DIA_A2);
+            Piece center = pieceAt(Position.CENTER, Position.DIA_B2);
+
+            long bytes = bytesPerCall(() -> {
+                PathManager.getNextPositions(offBoard, 3, shape);
+                PathManager.getNextPositions(outer, 2, shape);
+                PathManager.getNextPositions(outer, -1, shape);
+                PathManager.getNextPositions(diagonal, 2, shape);
+                PathManager.getNextPositions(center, 1, shape);
+                PathManager.getNextPositions(center, -1, shape);
+            }) / 6;
+            assertTrue(bytes <= PATH_BUDGET_BYTES,
+                    shape + " getNextPositions 호출당 " + bytes + "B 할당 (예산 " + PATH_BUDGET_BYTES + "B)");
+        }
+    }
+
+    @Test
+    void testPlacePieceIsAllocationFree() {
+        Board board = new Board();
+        Player p1 = new Player("Player 1", 0, 0);
+        Player p2 = new Player("Player 2", 0, 1);
+        Piece mover = new Piece(p1);
+        Piece stacked = new Piece(p1);
+        Piece attacker = new Piece(p1);
+        Piece victim = new Piece(p2);
+        board.placePiece(mover, Position.POS_1);
+        board.placePiece(stacked, Position.POS_7);
+        board.placePiece(attacker, Position.POS_12);
+        board.placePiece(victim, Position.POS_13);
+
+        long bytes = bytesPerCall(() -> {
+            board.placePiece(mover, Position.POS_2);     // 빈 칸
+            board.placePiece(mover, Position.POS_7);     // 업기
+            board.placePiece(mover, Position.POS_1);
+            board.placePiece(attacker, Position.POS_13); // 잡기
+            board.placePiece(victim, Position.POS_13);   // 되잡기
+        }) / 5;
+        assertTrue(bytes <= PLACE_BUDGET_BYTES,
+                "placePiece 호출당 " + bytes + "B 할당 (예산 " + PLACE_BUDGET_BYTES + "B)");
+    }
+
+    @Test
+    void testFullTurnStaysWithinBudget() {
+        GameController controller = new GameController(new TestUI(), BoardShape.TRADITIONAL);
+        controller.initializeGame(2, 4);
+        // 말을 처음 자리로 되돌려 게임이 끝나지 않고 같은 상황이 반복되게 함
+        List<Player> players = controller.getGame().getPlayers();
+        Board board = controller.getGame().getBoard();
+
+        long bytes = bytesPerCall(() -> {
+            Player current = controller.getGame().getCurrentPlayer();
+            Piece piece = current.getPieces().get(0);
+            controller.handleThrowRequest(false); // TestUI는 항상 DO
+            controller.applySelectedYutAndPiece(YutThrowResult.DO, piece);
+            if (controller.getGame().getCurrentPlayer() == current) {
+                controller.playerEndsTurnActions();
+            }
+            for (Player player : players) {
+                for (Piece p : player.getPieces()) {
+                    if (p.getPosition() != Position.OFFBOARD) board.placePiece(p, Position.OFFBOARD);
+                }
+            }
+        });
+        assertTrue(bytes <= TURN_BUDGET_BYTES,
+                "한 턴당 " + bytes + "B 할당 (예산 " + TURN_BUDGET_BYTES + "B)");
+    }
+}
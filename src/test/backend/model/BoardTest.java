@@ -105,4 +105,22 @@ class BoardTest {
         board.removePiece(piece1);
         assertFalse(board.getPiecesAt(Position.POS_15).contains(piece1));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackCountersOnPlaceAndCapture() {
+        Piece anotherPiece1 = new Piece(player1);
+
+        // 같은 플레이어 말 두 개를 업음
+        board.placePiece(piece1, Position.POS_3);
+        board.placePiece(anotherPiece1, Position.POS_3);
+        assertEquals(2, player1.getLargestStackSize());
+        assertEquals(1, player1.getStackCount(2));
+        assertEquals(0, player1.getStackCount(1));
+
+        // 상대 말이 잡으면 업힌 묶음이 사라짐
+        board.placePiece(piece2, Position.POS_3);
+        assertEquals(0, player1.getLargestStackSize());
+        assertEquals(1, player2.getStackCount(1));
+        assertEquals(0, player1.getOnBoardCount());
+    }
+}
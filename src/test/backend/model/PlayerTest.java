@@ -52,4 +52,23 @@ public class PlayerTest {
             assertFalse(piece.isFinished());
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testPieceCountersFollowMoves() {
+        // 초기 상태: 모든 말이 출발 전
+        assertEquals(PIECE_COUNT, player.getOffBoardCount());
+        assertEquals(0, player.getOnBoardCount());
+        assertEquals(0, player.getFinishedCount());
+
+        int version = player.getStateVersion();
+        Piece piece = player.getPieces().get(0);
+        piece.moveTo(Position.POS_3);
+        assertEquals(PIECE_COUNT - 1, player.getOffBoardCount());
+        assertEquals(1, player.getOnBoardCount());
+        assertNotEquals(version, player.getStateVersion());
+
+        piece.moveTo(Position.END);
+        assertEquals(0, player.getOnBoardCount());
+        assertEquals(1, player.getFinishedCount());
+    }
+}
@@ -0,0 +1,112 @@
+package test.backend.search;
+
+import backend.game.YutThrowResult;
+import backend.game.YutThrower;
+import backend.model.Board;
+import backend.model.BoardShape;
+import backend.model.Player;
+import backend.model.Position;
+import backend.search.CaptureRiskMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaptureRiskMapTest {
+    // 윷/모로 이어 던지다가 한 번 멈추는 턴에서 멈춘 결과가 t일 확률
+    private static double stopProbability(YutThrowResult t) {
+        double again = YutThrower.probability(YutThrowResult.YUT) + YutThrower.probability(YutThrowResult.MO);
+        return YutThrower.probability(t) / (1 - again);
+    }
+
+    @Test
+    void testWaitingOpponentThreatensFirstSquare() {
+        Board board = new Board();
+        Player me = new Player("Player 1", 1, 0);
+        Player opponent = new Player("Player 2", 1, 1);
+        board.placePiece(me.getPieces().get(0), Position.POS_1);
+
+        CaptureRiskMap map = new CaptureRiskMap(BoardShape.TRADITIONAL);
+        map.update(board, List.of(me, opponent), me);
+        // 대기 말이 POS_1에 멈추려면 턴을 도로 끝내야 함 (빽도는 대기 말에 못 씀)
+        assertEquals(stopProbability(YutThrowResult.DO), map.getRisk(Position.POS_1), 0.01);
+        assertEquals(0, map.getRisk(Position.OFFBOARD));
+        assertEquals(0, map.getRisk(Position.END));
+        for (double risk : map.toArray()) {
+            assertTrue(risk >= 0 && risk <= 1 + 1e-12);
+        }
+    }
+
+    @Test
+    void testOwnPiecesAreNotThreats() {
+        Board board = new Board();
+        Player me = new Player("Player 1", 2, 0);
+        board.placePiece(me.getPieces().get(0), Position.POS_3);
+
+        CaptureRiskMap map = new CaptureRiskMap(BoardShape.TRADITIONAL);
+        map.update(board, List.of(me), me);
+        for (double risk : map.toArray()) {
+            assertEquals(0, risk);
+        }
+    }
+
+    @Test
+    void testBackdoThreatensSquareBehind() {
+        Board board = new Board();
+        Player me = new Player("Player 1", 1, 0);
+        Player opponent = new Player("Player 2", 1, 1);
+        board.placePiece(opponent.getPieces().get(0), Position.POS_2);
+
+        CaptureRiskMap map = new CaptureRiskMap(BoardShape.TRADITIONAL);
+        map.update(board, List.of(me, opponent), me);
+        // 이어 던지기를 4번에서 자르므로 멈춤 확률보다 조금 작을 수 있음
+        assertTrue(map.getRisk(Position.POS_1) >= stopProbability(YutThrowResult.BACKDO) - 1e-3);
+        assertTrue(map.getRisk(Position.POS_3) >= stopProbability(YutThrowResult.DO) - 1e-3);
+        assertEquals(0, map.getRisk(Position.POS_2));
+    }
+
+    @Test
+    void testOpponentsCombineIndependently() {
+        Board board = new Board();
+        Player me = new Player("Player 1", 1, 0);
+        Player second = new Player("Player 2", 1, 1);
+        Player third = new Player("Player 3", 1, 2);
+
+        CaptureRiskMap single = new CaptureRiskMap(BoardShape.PENTAGON);
+        single.update(board, List.of(me, second), me);
+        CaptureRiskMap both = new CaptureRiskMap(BoardShape.PENTAGON);
+        both.update(board, List.of(me, second, third), me);
+        for (Position pos : Position.values()) {
+            double one = single.getRisk(pos);
+            assertEquals(1 - (1 - one) * (1 - one), both.getRisk(pos), 1e-12, pos.name());
+        }
+    }
+
+    /** 상대 말을 하나씩 옮기며 갱신한 결과가 매번 새로 계산한 결과와 같아야 한다 */
+    @Test
+    void testIncrementalUpdateMatchesFreshMap() {
+        Random random = new Random(48);
+        Position[] outer = {Position.POS_1, Position.POS_2, Position.POS_4, Position.POS_7,
+                Position.POS_11, Position.POS_13, Position.POS_16, Position.POS_19};
+        Board board = new Board();
+        Player me = new Player("Player 1", 2, 0);
+        Player second = new Player("Player 2", 3, 1);
+        Player third = new Player("Player 3", 3, 2);
+        List<Player> players = List.of(me, second, third);
+
+        CaptureRiskMap incremental = new CaptureRiskMap(BoardShape.TRADITIONAL);
+        for (int step = 0; step < 200; step++) {
+            Player mover = players.get(random.nextInt(players.size()));
+            board.placePiece(mover.getPieces().get(random.nextInt(mover.getPieces().size())),
+                    random.nextInt(4) == 0 ? Position.OFFBOARD : outer[random.nextInt(outer.length)]);
+            Player defender = players.get(step % players.size());
+
+            incremental.update(board, players, defender);
+            CaptureRiskMap fresh = new CaptureRiskMap(BoardShape.TRADITIONAL);
+            fresh.update(board, players, defender);
+            assertArrayEquals(fresh.toArray(), incremental.toArray(), 1e-12);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package test.backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.model.Position;
+import backend.search.DistanceTable;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DistanceTableTest {
+
+    @Test
+    void testTraditionalDistances() {
+        DistanceTable table = DistanceTable.of(BoardShape.TRADITIONAL);
+        assertSame(table, DistanceTable.of(BoardShape.TRADITIONAL));
+        assertEquals(0, table.getDistance(Position.END, null));
+        assertEquals(1, table.getDistance(Position.POS_0, null));
+        assertEquals(2, table.getDistance(Position.POS_19, null));
+        // POS_5 → A 지름길 → CENTER → B 지름길 → POS_0 → END
+        assertEquals(7, table.getDistance(Position.POS_5, null));
+        assertEquals(4, table.getDistance(Position.CENTER, null));
+        assertEquals(12, table.getDistance(Position.OFFBOARD, null));
+        // POS_0을 지나치는 이동은 바로 도착이므로 POS_15에서는 모 한 번이면 됨
+        assertEquals(5, table.getDistance(Position.POS_15, Position.DIA_A4));
+    }
+
+    @Test
+    void testPentagonCenterExitsStraightToEnd() {
+        // 오각형은 CENTER에서 B 지름길로 나가면 바로 END
+        assertEquals(3, DistanceTable.of(BoardShape.PENTAGON).getDistance(Position.CENTER, null));
+    }
+
+    /** 표의 값은 "앞으로 가는 윷 결과 중 (칸 수 + 도착 칸의 거리)의 최솟값"과 같아야 한다 */
+    @Test
+    void testDistancesAreShortestOverForwardMoves() {
+        Random random = new Random(47);
+        YutThrowResult[] throwResults = YutThrowResult.values();
+        for (BoardShape shape : BoardShape.values()) {
+            DistanceTable table = DistanceTable.of(shape);
+            MoveGenerator generator = new MoveGenerator(shape);
+            for (int run = 0; run < 200; run++) {
+                GameState state = GameState.initial(1, 1);
+                while (state.getWinner() < 0) {
+                    int best = Integer.MAX_VALUE;
+                    for (YutThrowResult t : throwResults) {
+                        if (t.getMove() <= 0) continue;
+                        GameState child = generator.generate(state, t).get(0).getResult();
+                        int rest = child.getWinner() >= 0 ? 0 : distanceOf(table, child);
+                        best = Math.min(best, t.getMove() + rest);
+                    }
+                    assertEquals(best, distanceOf(table, state), shape + " " + state);
+
+                    List<MoveGenerator.Move> moves = generator.generate(state, throwResults[random.nextInt(throwResults.length)]);
+                    state = moves.isEmpty() ? generator.pass(state) : moves.get(0).getResult();
+                }
+            }
+        }
+    }
+
+    private static int distanceOf(DistanceTable table, GameState state) {
+        return table.getDistance(state.getPosition(0, 0), state.getContext(0, 0), state.getLastEntered(0, 0));
+    }
+}
@@ -0,0 +1,91 @@
+package test.backend.search;
+
+import backend.game.YutThrowResult;
+import backend.game.YutThrower;
+import backend.model.BoardShape;
+import backend.model.Position;
+import backend.search.FinishTimeTable;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FinishTimeTableTest {
+
+    @Test
+    void testProbabilitiesSumToOne() {
+        double sum = 0;
+        for (YutThrowResult t : YutThrowResult.values()) {
+            sum += YutThrower.probability(t);
+        }
+        assertEquals(1.0, sum, 1e-12);
+    }
+
+    @Test
+    void testExpectedValuesMatchSimulation() {
+        Random random = new Random(46);
+        for (BoardShape shape : BoardShape.values()) {
+            FinishTimeTable table = FinishTimeTable.of(shape);
+            assertSame(table, FinishTimeTable.of(shape));
+            assertEquals(0, table.getExpectedThrows(Position.END, null, null));
+
+            // 말 하나를 끝까지 움직여 보는 몬테카를로와 비교
+            MoveGenerator generator = new MoveGenerator(shape);
+            int runs = 20000;
+            long throwsTotal = 0;
+            long turnsTotal = 0;
+            for (int run = 0; run < runs; run++) {
+                GameState state = GameState.initial(1, 1);
+                while (state.getWinner() < 0) {
+                    YutThrowResult t = YutThrower.throwRandom(random);
+                    List<MoveGenerator.Move> moves = generator.generate(state, t);
+                    state = moves.isEmpty() ? generator.pass(state) : moves.get(0).getResult();
+                    throwsTotal++;
+                    if (state.getWinner() >= 0 || (t != YutThrowResult.YUT && t != YutThrowResult.MO)) turnsTotal++;
+                }
+            }
+            double expectedThrows = table.getExpectedThrows(Position.OFFBOARD, null, null);
+            double expectedTurns = table.getExpectedTurns(Position.OFFBOARD, null, null);
+            assertEquals(expectedThrows, (double) throwsTotal / runs, expectedThrows * 0.03, shape.name());
+            assertEquals(expectedTurns, (double) turnsTotal / runs, expectedTurns * 0.03, shape.name());
+            assertTrue(expectedTurns < expectedThrows);
+
+            // 분포의 평균도 기대값과 같아야 함
+            double[] distribution = table.getThrowDistribution(Position.OFFBOARD, null, null);
+            double mean = 0;
+            for (int n = 0; n < distribution.length; n++) {
+                mean += n * distribution[n];
+            }
+            assertEquals(expectedThrows, mean, 1e-6, shape.name());
+            assertEquals(0, distribution[0]);
+        }
+    }
+
+    @Test
+    void testCoversPiecesFromMultiplayerGames() {
+        Random random = new Random(3);
+        YutThrowResult[] throwResults = YutThrowResult.values();
+        for (BoardShape shape : BoardShape.values()) {
+            FinishTimeTable table = FinishTimeTable.of(shape);
+            MoveGenerator generator = new MoveGenerator(shape);
+            for (int game = 0; game < 50; game++) {
+                GameState state = GameState.initial(4, 4);
+                for (int step = 0; step < 1000 && state.getWinner() < 0; step++) {
+                    for (int p = 0; p < 4; p++) {
+                        for (int i = 0; i < 4; i++) {
+                            double value = table.getExpectedThrows(state.getPosition(p, i),
+                                    state.getContext(p, i), state.getLastEntered(p, i));
+                            assertTrue(value >= 0);
+                        }
+                    }
+                    List<MoveGenerator.Move> moves = generator.generate(state, throwResults[random.nextInt(throwResults.length)]);
+                    state = moves.isEmpty() ? generator.pass(state) : moves.get(random.nextInt(moves.size())).getResult();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package test.backend.search;
+
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.search.GameState;
+import backend.search.HintEngine;
+import backend.search.MoveGenerator;
+import backend.search.MoveOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HintEngineTest {
+    private static final List<YutThrowResult> ALL_THROWS = List.of(YutThrowResult.values());
+
+    private static GameState randomState(MoveGenerator generator, int players, int pieces, int plies, Random random) {
+        GameState state = GameState.initial(players, pieces);
+        YutThrowResult[] throwResults = YutThrowResult.values();
+        for (int i = 0; i < plies && state.getWinner() < 0; i++) {
+            List<MoveGenerator.Move> moves = generator.generate(state, throwResults[random.nextInt(throwResults.length)]);
+            state = moves.isEmpty() ? generator.pass(state) : moves.get(random.nextInt(moves.size())).getResult();
+        }
+        return state;
+    }
+
+    @Test
+    void testStreamsDeeperHintsUntilLast() throws Exception {
+        MoveGenerator generator = new MoveGenerator(BoardShape.TRADITIONAL);
+        MoveOptions options = MoveOptions.compute(generator, GameState.initial(2, 1),
+                List.of(YutThrowResult.DO, YutThrowResult.GEOL), false);
+        List<HintEngine.Hint> hints = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (HintEngine engine = new HintEngine()) {
+            engine.start(BoardShape.TRADITIONAL, options, hint -> {
+                hints.add(hint);
+                if (hint.isLast()) done.countDown();
+            });
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        }
+        assertEquals(HintEngine.MAX_DEPTH + 1, hints.size());
+        for (int i = 0; i < hints.size(); i++) {
+            assertEquals(i, hints.get(i).getDepth());
+            assertTrue(options.getOptions().contains(hints.get(i).getOption()));
+        }
+    }
+
+    @Test
+    void testPrefersWinningMove() throws Exception {
+        Random random = new Random(50);
+        MoveGenerator generator = new MoveGenerator(BoardShape.TRADITIONAL);
+        int checked = 0;
+        try (HintEngine engine = new HintEngine()) {
+            while (checked < 5) {
+                GameState state = randomState(generator, 2, 1, random.nextInt(12), random);
+                if (state.getWinner() >= 0) continue;
+                MoveOptions options = MoveOptions.compute(generator, state, ALL_THROWS, false);
+                long winning = options.getOptions().stream().filter(o -> o.getResult().getWinner() >= 0).count();
+                if (winning == 0 || winning == options.getOptions().size()) continue;
+
+                CountDownLatch first = new CountDownLatch(1);
+                HintEngine.Hint[] hint = new HintEngine.Hint[1];
+                engine.start(BoardShape.TRADITIONAL, options, h -> {
+                    if (hint[0] == null) {
+                        hint[0] = h;
+                        first.countDown();
+                    }
+                });
+                assertTrue(first.await(10, TimeUnit.SECONDS));
+                assertEquals(state.getCurrentPlayer(), hint[0].getOption().getResult().getWinner());
+                checked++;
+            }
+        }
+    }
+
+    @Test
+    void testCancelStopsStreamingAndFreesEngine() throws Exception {
+        MoveGenerator generator = new MoveGenerator(BoardShape.TRADITIONAL);
+        GameState state = randomState(generator, 4, 4, 40, new Random(7));
+        MoveOptions options = MoveOptions.compute(generator, state, ALL_THROWS, true);
+        assertFalse(options.isEmpty());
+
+        try (HintEngine engine = new HintEngine()) {
+            AtomicInteger received = new AtomicInteger();
+            CountDownLatch first = new CountDownLatch(1);
+            HintEngine.Search search = engine.start(BoardShape.TRADITIONAL, options, hint -> {
+                received.incrementAndGet();
+                first.countDown();
+            });
+            assertTrue(first.await(10, TimeUnit.SECONDS));
+            engine.cancel();
+            assertTrue(search.isCancelled());
+            int afterCancel = received.get();
+
+            // 취소된 탐색이 스레드를 붙잡고 있지 않으므로 새 탐색의 첫 추천이 바로 나옴
+            CountDownLatch next = new CountDownLatch(1);
+            engine.start(BoardShape.TRADITIONAL, options, hint -> next.countDown());
+            assertTrue(next.await(10, TimeUnit.SECONDS));
+            assertEquals(afterCancel, received.get());
+        }
+    }
+
+    @Test
+    void testEmptyOptionsNeverStart() {
+        try (HintEngine engine = new HintEngine()) {
+            HintEngine.Search search = engine.start(BoardShape.TRADITIONAL, MoveOptions.empty(), hint -> fail());
+            assertTrue(search.isCancelled());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package test.backend.search;
+
+import backend.controller.GameController;
+import backend.game.Game;
+import backend.game.YutThrowResult;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import backend.search.MoveOptions;
+import org.junit.jupiter.api.Test;
+import test.backend.controller.TestUI;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveOptionsTest {
+
+    /** 미리 계산한 결과 상태가 컨트롤러로 실제로 옮긴 뒤의 상태(차례 포함)와 같아야 한다 */
+    @Test
+    void testOptionsMatchControllerMoves() {
+        Random random = new Random(49);
+        for (BoardShape shape : BoardShape.values()) {
+            for (int gameNo = 0; gameNo < 10; gameNo++) {
+                GameController controller = new GameController(new TestUI(), shape);
+                controller.setThrowRandom(new Random(random.nextLong()));
+                controller.initializeGame(3, 3);
+                Game game = controller.getGame();
+                assertTrue(controller.getMoveOptions().isEmpty());
+
+                boolean yutOrMoJustThrown = false;
+                for (int step = 0; step < 2000; step++) {
+                    List<YutThrowResult> pending = controller.getCurrentAvailableThrows();
+                    if (pending.isEmpty() || (yutOrMoJustThrown && random.nextBoolean())) {
+                        controller.handleThrowRequest(true);
+                        List<YutThrowResult> thrown = controller.getCurrentAvailableThrows();
+                        YutThrowResult last = thrown.get(thrown.size() - 1);
+                        yutOrMoJustThrown = last == YutThrowResult.YUT || last == YutThrowResult.MO;
+                        continue;
+                    }
+                    yutOrMoJustThrown = false;
+
+                    MoveOptions options = controller.getMoveOptions();
+                    assertEquals(GameState.from(game), options.getState());
+                    if (options.isEmpty()) {
+                        controller.playerEndsTurnActions();
+                        continue;
+                    }
+                    for (YutThrowResult t : pending) {
+                        for (Piece piece : game.getCurrentPlayer().getPieces()) {
+                            MoveOptions.Option option = options.find(t, piece);
+                            if (option != null) assertEquals(piece.getPosition(), option.getFrom());
+                        }
+                    }
+
+                    MoveOptions.Option chosen = options.getOptions().get(random.nextInt(options.getOptions().size()));
+                    Piece piece = game.getCurrentPlayer().getPieces().get(chosen.getPiece());
+                    controller.applySelectedYutAndPiece(chosen.getThrowResult(), piece);
+                    GameState after = GameState.from(game);
+                    assertEquals(chosen.getResult(), after, shape + " " + chosen);
+                    assertEquals(chosen.getResultHash(), after.hash());
+                    if (after.getWinner() >= 0) break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDuplicateThrowsAndStacksAreComputedOnce() {
+        GameController controller = new GameController(new TestUI(), BoardShape.TRADITIONAL);
+        controller.setThrowRandom(new Random(1));
+        controller.initializeGame(2, 4);
+        // 시작 상태: 대기 말 4개는 묶음 하나
+        MoveOptions options = MoveOptions.compute(new MoveGenerator(BoardShape.TRADITIONAL),
+                GameState.from(controller.getGame()),
+                List.of(YutThrowResult.DO, YutThrowResult.DO, YutThrowResult.GAE, YutThrowResult.BACKDO), false);
+        assertEquals(2, options.getOptions().size());
+        assertEquals(1, options.getOptions(YutThrowResult.DO).size());
+        assertTrue(options.getOptions(YutThrowResult.BACKDO).isEmpty());
+        // 대기 말은 어느 것을 골라도 같은 수
+        Piece last = controller.getGame().getCurrentPlayer().getPieces().get(3);
+        assertSame(options.getOptions(YutThrowResult.GAE).get(0), options.find(YutThrowResult.GAE, last));
+        // 남은 윷이 있으므로 차례가 이어짐
+        assertEquals(0, options.getOptions().get(0).getResult().getCurrentPlayer());
+    }
+}
@@ -0,0 +1,171 @@
+package test.backend.search;
+
+import backend.controller.GameController;
+import backend.game.Game;
+import backend.game.YutThrowResult;
+import backend.metrics.GameMetrics;
+import backend.model.BoardShape;
+import backend.model.Piece;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import backend.search.Perft;
+import test.backend.controller.TestUI;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PerftTest {
+
+    /** 던질 윷을 미리 정해 두는 테스트 UI */
+    private static class ScriptedUI extends TestUI {
+        YutThrowResult next;
+
+        @Override
+        public YutThrowResult promptForDesignatedThrow() {
+            return next;
+        }
+    }
+
+    @Test
+    void testShallowNodeCounts() {
+        Perft perft = new Perft(BoardShape.TRADITIONAL, 1, 0);
+        try {
+            GameState root = GameState.initial(2, 2);
+            // 처음엔 모든 말이 대기 중이라 윷 결과마다 수가 하나 (빽도는 pass)
+            assertEquals(6, perft.run(root, 1).getNodes());
+            assertEquals(46, perft.run(root, 2).getNodes());
+        } finally {
+            perft.shutdown();
+        }
+    }
+
+    @Test
+    void testWonStatesAreNeverLeaves() {
+        // 말 1개 혼자: 3수 안에 나는 경로(예: 오각형 모, 걸, 걸)는 마지막 수에 나도 끝 노드가 아님
+        long[][] expected = {
+            {6, 36, 209, 1191},   // TRADITIONAL
+            {6, 36, 210, 1203},   // PENTAGON
+            {6, 36, 209, 1212},   // HEXAGON
+        };
+        for (BoardShape shape : BoardShape.values()) {
+            Perft perft = new Perft(shape, 1, 0);
+            try {
+                MoveGenerator generator = new MoveGenerator(shape);
+                GameState root = GameState.initial(1, 1);
+                for (int depth = 1; depth <= 4; depth++) {
+                    long nodes = perft.run(root, depth).getNodes();
+                    assertEquals(expected[shape.ordinal()][depth - 1], nodes, shape + " depth " + depth);
+                    assertEquals(bruteForce(generator, root, depth), nodes, shape + " depth " + depth);
+                }
+            } finally {
+                perft.shutdown();
+            }
+        }
+    }
+
+    // 비교용: 해시, 병렬 없이 그대로 펼침
+    private static long bruteForce(MoveGenerator generator, GameState state, int depth) {
+        if (state.getWinner() >= 0) return 0;
+        if (depth == 0) return 1;
+        long nodes = 0;
+        for (YutThrowResult t : YutThrowResult.values()) {
+            List<MoveGenerator.Move> moves = generator.generate(state, t);
+            if (moves.isEmpty()) nodes += bruteForce(generator, generator.pass(state), depth - 1);
+            for (MoveGenerator.Move move : moves) {
+                nodes += bruteForce(generator, move.getResult(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+    @Test
+    void testHashAndThreadsDoNotChangeCounts() {
+        for (BoardShape shape : BoardShape.values()) {
+            GameState root = GameState.initial(2, 2);
+            Perft plain = new Perft(shape, 1, 0);
+            Perft parallel = new Perft(shape, 4, 16);
+            try {
+                Perft.Result expected = plain.run(root, 5);
+                Perft.Result actual = parallel.run(root, 5);
+                assertEquals(expected.getNodes(), actual.getNodes(), shape.name());
+                assertEquals(expected.getDivide(), actual.getDivide(), shape.name());
+                assertTrue(actual.getHashHits() > 0, shape + " 중복 상태가 검출되어야 함");
+                // 작업 스레드들이 게임용 경로 계산 지표를 함께 건드리지 않음
+                long recorded = GameMetrics.PATH_CALCULATION.getCount();
+                parallel.run(root, 4);
+                assertEquals(recorded, GameMetrics.PATH_CALCULATION.getCount(), shape.name());
+            } finally {
+                plain.shutdown();
+                parallel.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testKeyIgnoresPieceOrder() {
+        MoveGenerator generator = new MoveGenerator(BoardShape.TRADITIONAL);
+        GameState root = GameState.initial(2, 2);
+        // 0번 말로 도를 두든 1번 말로 두든 같은 상태
+        GameState first = generator.apply(root, YutThrowResult.DO, 0).getResult();
+        GameState second = generator.apply(root, YutThrowResult.DO, 1).getResult();
+        assertEquals(first, second);
+        assertEquals(first.hash(), second.hash());
+        long[] a = new long[root.keyWords()];
+        long[] b = new long[root.keyWords()];
+        first.pack(a, 0);
+        second.pack(b, 0);
+        assertArrayEquals(a, b);
+        // 중복 말은 한 번만 만든다
+        assertEquals(1, generator.generate(root, YutThrowResult.DO).size());
+
+        // P1이 도 → P2 pass → P1이 걸: 대기 말로 둘 때와 판 위 말로 둘 때는 다른 상태
+        GameState p1Again = generator.pass(first);
+        List<MoveGenerator.Move> moves = generator.generate(p1Again, YutThrowResult.GEOL);
+        assertEquals(2, moves.size());
+        assertNotEquals(moves.get(0).getResult(), moves.get(1).getResult());
+    }
+
+    /**
+     * MoveGenerator의 결과가 실제 GameController + Board 로 둔 결과와 같은지 무작위 대국으로 확인한다.
+     * 윷/모는 컨트롤러에서 "이동 전에 한 번 더 던지기"라 순서가 달라지므로 빽도~걸만 쓴다.
+     */
+    @Test
+    void testGeneratorMatchesController() {
+        YutThrowResult[] throwsToUse = {YutThrowResult.BACKDO, YutThrowResult.DO, YutThrowResult.GAE, YutThrowResult.GEOL};
+        Random random = new Random(2024);
+        for (BoardShape shape : BoardShape.values()) {
+            MoveGenerator generator = new MoveGenerator(shape);
+            for (int gameNo = 0; gameNo < 30; gameNo++) {
+                ScriptedUI ui = new ScriptedUI();
+                GameController controller = new GameController(ui, shape);
+                controller.initializeGame(2 + gameNo % 3, 2 + gameNo % 4);
+                Game game = controller.getGame();
+
+                for (int step = 0; step < 400; step++) {
+                    GameState before = GameState.from(game);
+                    if (before.getWinner() >= 0) break;
+                    YutThrowResult t = throwsToUse[random.nextInt(throwsToUse.length)];
+                    ui.next = t;
+                    controller.handleThrowRequest(false);
+
+                    List<MoveGenerator.Move> moves = generator.generate(before, t);
+                    GameState expected;
+                    if (moves.isEmpty()) {
+                        controller.playerEndsTurnActions();
+                        expected = generator.pass(before);
+                    } else {
+                        MoveGenerator.Move move = moves.get(random.nextInt(moves.size()));
+                        Piece piece = game.getCurrentPlayer().getPieces().get(move.getPiece());
+                        controller.applySelectedYutAndPiece(t, piece);
+                        expected = move.getResult();
+                    }
+                    GameState actual = GameState.from(game);
+                    assertEquals(expected, actual, shape + " " + gameNo + "번째 게임 " + step + "수: " + before + " / " + t);
+                }
+            }
+        }
+    }
+}
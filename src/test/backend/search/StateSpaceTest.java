@@ -0,0 +1,151 @@
+package test.backend.search;
+
+import backend.game.YutThrowResult;
+import backend.metrics.GameMetrics;
+import backend.model.BoardShape;
+import backend.search.GameState;
+import backend.search.MoveGenerator;
+import backend.search.OffHeapStateSet;
+import backend.search.StateSpace;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StateSpaceTest {
+
+    @Test
+    void testSetGrowsAndKeepsEntries() {
+        OffHeapStateSet set = new OffHeapStateSet(2, 1);
+        Random random = new Random(7);
+        long[][] keys = new long[5000][2];
+        long[] hashes = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i][0] = random.nextLong();
+            keys[i][1] = i;
+            // 일부러 해시를 적은 값으로 몰아 충돌 처리도 확인
+            hashes[i] = (long) (i % 97) << 40;
+            assertTrue(set.add(hashes[i], keys[i], 0));
+        }
+        assertEquals(keys.length, set.size());
+        assertTrue(set.capacity() >= keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            assertFalse(set.add(hashes[i], keys[i], 0));
+            assertTrue(set.contains(hashes[i], keys[i], 0));
+        }
+        assertFalse(set.contains(hashes[0], new long[]{keys[0][0], -1}, 0));
+        assertEquals(keys.length, set.size());
+    }
+
+    @Test
+    void testConcurrentAddKeepsOneCopy() throws InterruptedException {
+        OffHeapStateSet set = new OffHeapStateSet(1, 1);
+        int distinct = 20000;
+        set.reserve(distinct);
+        AtomicInteger inserted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[4];
+        for (int n = 0; n < threads.length; n++) {
+            threads[n] = new Thread(() -> {
+                long[] key = new long[1];
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // 모든 스레드가 같은 키들을 넣음
+                for (int i = 0; i < distinct; i++) {
+                    key[0] = i;
+                    if (set.addConcurrent((long) (i % 1000) << 50, key, 0)) inserted.incrementAndGet();
+                }
+            });
+            threads[n].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(distinct, inserted.get());
+        assertEquals(distinct, set.size());
+    }
+
+    @Test
+    void testUnpackRestoresPackedState() {
+        MoveGenerator generator = new MoveGenerator(BoardShape.PENTAGON);
+        Random random = new Random(11);
+        GameState state = GameState.initial(3, 4);
+        long[] key = new long[state.keyWords()];
+        YutThrowResult[] throwResults = YutThrowResult.values();
+        for (int step = 0; step < 200 && state.getWinner() < 0; step++) {
+            state.pack(key, 0);
+            GameState restored = GameState.unpack(3, 4, key, 0);
+            assertEquals(state, restored);
+            assertEquals(state.hash(), restored.hash());
+            List<MoveGenerator.Move> moves = generator.generate(state, throwResults[random.nextInt(throwResults.length)]);
+            state = moves.isEmpty() ? generator.pass(state) : moves.get(random.nextInt(moves.size())).getResult();
+        }
+    }
+
+    @Test
+    void testEnumerationMatchesHeapSearch() {
+        for (BoardShape shape : BoardShape.values()) {
+            StateSpace.Result result = StateSpace.enumerate(shape, 2, 1);
+            assertEquals(heapCount(shape, 2, 1), result.getStates(), shape.name());
+            long sum = 0;
+            for (long level : result.getLevels()) sum += level;
+            assertEquals(result.getStates(), sum);
+            assertTrue(result.getTerminalStates() > 0);
+        }
+    }
+
+    @Test
+    void testParallelEnumerationMatchesSingleThread() {
+        for (BoardShape shape : BoardShape.values()) {
+            StateSpace.Result single = StateSpace.enumerate(shape, 2, 1, 1);
+            StateSpace.Result parallel = StateSpace.enumerate(shape, 2, 1, 4);
+            assertEquals(single.getStates(), parallel.getStates(), shape.name());
+            assertEquals(single.getTerminalStates(), parallel.getTerminalStates(), shape.name());
+            assertArrayEquals(single.getLevels(), parallel.getLevels(), shape.name());
+        }
+    }
+
+    @Test
+    void testSearchDoesNotRecordPathMetrics() {
+        // 탐색이 게임용 경로 계산 지표를 건드리면 안 됨 (병렬 BFS 경합, 지표 오염)
+        long before = GameMetrics.PATH_CALCULATION.getCount();
+        StateSpace.enumerate(BoardShape.TRADITIONAL, 2, 1, 2);
+        assertEquals(before, GameMetrics.PATH_CALCULATION.getCount());
+    }
+
+    // 비교용: 힙 위 HashSet으로 같은 BFS
+    private static long heapCount(BoardShape shape, int players, int pieces) {
+        MoveGenerator generator = new MoveGenerator(shape);
+        Set<GameState> seen = new HashSet<>();
+        ArrayDeque<GameState> queue = new ArrayDeque<>();
+        GameState root = GameState.initial(players, pieces);
+        seen.add(root);
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            GameState state = queue.poll();
+            if (state.getWinner() >= 0) continue;
+            for (YutThrowResult t : YutThrowResult.values()) {
+                List<MoveGenerator.Move> moves = generator.generate(state, t);
+                if (moves.isEmpty()) {
+                    GameState child = generator.pass(state);
+                    if (seen.add(child)) queue.add(child);
+                }
+                for (MoveGenerator.Move move : moves) {
+                    if (seen.add(move.getResult())) queue.add(move.getResult());
+                }
+            }
+        }
+        return seen.size();
+    }
+}
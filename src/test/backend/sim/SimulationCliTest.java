@@ -0,0 +1,37 @@
+package test.backend.sim;
+
+import backend.model.BoardShape;
+import backend.sim.SimulationCli;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationCliTest {
+
+    @Test
+    void testSameSeedGivesSameResult() {
+        for (BoardShape shape : BoardShape.values()) {
+            SimulationCli.Summary first = SimulationCli.run(shape, 20, 42L, 3, 4);
+            SimulationCli.Summary second = SimulationCli.run(shape, 20, 42L, 3, 4);
+
+            assertEquals(20, first.getGames());
+            assertEquals(first.getMeanActions(), second.getMeanActions(), 1e-9, shape.name());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(first.getWins(i), second.getWins(i), shape + " P" + (i + 1));
+            }
+        }
+    }
+
+    @Test
+    void testEveryGameHasAWinner() {
+        SimulationCli.Summary summary = SimulationCli.run(BoardShape.TRADITIONAL, 50, 7L, 2, 4);
+        assertEquals(0, summary.getUnfinished());
+        assertEquals(50, summary.getWins(0) + summary.getWins(1));
+    }
+
+    @Test
+    void testBoardShapeFromNameIgnoresCase() {
+        assertEquals(BoardShape.PENTAGON, BoardShape.fromName("pentagon"));
+        assertThrows(IllegalArgumentException.class, () -> BoardShape.fromName("octagon"));
+    }
+}
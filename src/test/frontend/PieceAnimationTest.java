@@ -0,0 +1,61 @@
+package test.frontend;
+
+import backend.model.Piece;
+import backend.model.Position;
+import frontend.PieceAnimation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PieceAnimationTest {
+    private static final List<Position> FOUR_STEPS =
+            List.of(Position.POS_0, Position.POS_1, Position.POS_2, Position.POS_3, Position.POS_4);
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void testFullDurationWhenNotInterrupted() {
+        PieceAnimation animation = new PieceAnimation();
+        List<Piece> pieces = List.of(new Piece(null));
+        assertTrue(animation.start(pieces, FOUR_STEPS, START));
+        assertEquals(4 * PieceAnimation.STEP_NANOS, animation.getDurationNanos());
+
+        // 앞 애니메이션이 끝난 뒤 들어온 이동은 줄이지 않음
+        long later = START + 5 * PieceAnimation.STEP_NANOS;
+        assertFalse(animation.update(later, new double[2 * Position.values().length]));
+        assertTrue(animation.start(pieces, FOUR_STEPS, later));
+        assertEquals(4 * PieceAnimation.STEP_NANOS, animation.getDurationNanos());
+    }
+
+    @Test
+    void testInterruptedMoveIsShortenedToRequestInterval() {
+        PieceAnimation animation = new PieceAnimation();
+        List<Piece> pieces = List.of(new Piece(null));
+        assertTrue(animation.start(pieces, FOUR_STEPS, START));
+
+        // 패널처럼 cancel 전에 진행 여부를 읽어서 넘김
+        long gap = 10 * PieceAnimation.FRAME_NANOS;
+        boolean interrupted = animation.isActive();
+        animation.cancel();
+        assertTrue(animation.start(pieces, FOUR_STEPS, START + gap, interrupted));
+        assertEquals(gap, animation.getDurationNanos());
+
+        // 진행 중에 다시 부르면 3인자 start 도 끊긴 것으로 봄
+        assertTrue(animation.start(pieces, FOUR_STEPS, START + 2 * gap));
+        assertEquals(gap, animation.getDurationNanos());
+    }
+
+    @Test
+    void testInterruptedMoveBelowMinimumIsSkipped() {
+        PieceAnimation animation = new PieceAnimation();
+        List<Piece> pieces = List.of(new Piece(null));
+        assertTrue(animation.start(pieces, FOUR_STEPS, START));
+
+        boolean interrupted = animation.isActive();
+        animation.cancel();
+        long gap = PieceAnimation.MIN_DURATION_NANOS - 1;
+        assertFalse(animation.start(pieces, FOUR_STEPS, START + gap, interrupted));
+        assertFalse(animation.isActive());
+    }
+}